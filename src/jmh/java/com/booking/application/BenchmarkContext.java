@@ -0,0 +1,34 @@
+package com.booking.application;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Boots the application for a JMH trial on its own in-memory H2.
+ *
+ * Overrides are passed as command-line arguments so they win over
+ * application-prod.properties (which points at the file database).
+ */
+public final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID(),
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--server.port=0",
+                "--logging.level.root=WARN"
+        ));
+        args.addAll(List.of(overrides));
+
+        return new SpringApplicationBuilder(BookingApplication.class)
+                .profiles("prod")
+                .run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,56 @@
+package com.booking.application.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash / verify time per algorithm and cost level, on the box it runs on.
+ * Pick security.password.* from these numbers: a login costs one
+ * {@code matches}, a registration one {@code encode}, and the hashing
+ * pool runs (cores / 2) of them at a time.
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PasswordEncoder -f 1 -wi 2 -i 3"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    // algorithm-cost (bcrypt: log2 rounds, pbkdf2: iterations)
+    @Param({"bcrypt-8", "bcrypt-10", "bcrypt-12", "pbkdf2-310000", "pbkdf2-600000"})
+    public String config;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        String[] parts = config.split("-");
+        int cost = Integer.parseInt(parts[1]);
+
+        encoder = PasswordEncoders.BCRYPT.equals(parts[0])
+                ? PasswordEncoders.create(parts[0], cost, 310_000)
+                : PasswordEncoders.create(parts[0], 10, cost);
+
+        hash = encoder.encode("Secret@123");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("Secret@123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("Secret@123", hash);
+    }
+}
@@ -0,0 +1,72 @@
+package com.booking.application.security.jwt;
+
+import com.booking.application.BenchmarkContext;
+import com.booking.application.entity.User;
+import com.booking.application.repository.UserRepository;
+import com.booking.application.security.CustomUserDetails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One authenticated request through the JWT filter (doFilter →
+ * doFilterInternal), with and without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    public boolean tokenCache;
+
+    private ConfigurableApplicationContext context;
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--security.jwt.token-cache.enabled=" + tokenCache);
+        filter = context.getBean(JwtAuthenticationFilter.class);
+
+        User admin = context.getBean(UserRepository.class)
+                .findByEmail("admin@gmail.com")
+                .orElseThrow();
+        authorization = "Bearer " + context.getBean(JwtTokenProvider.class)
+                .generateToken(new CustomUserDetails(admin));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Authentication doFilterInternal() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/slots");
+        request.setServletPath("/api/slots");
+        request.addHeader("Authorization", authorization);
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
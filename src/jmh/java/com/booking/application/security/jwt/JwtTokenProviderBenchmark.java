@@ -0,0 +1,56 @@
+package com.booking.application.security.jwt;
+
+import com.booking.application.entity.User;
+import com.booking.application.enums.Role;
+import com.booking.application.security.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Signing and verifying a token (HS256, same secret length as prod).
+ * No Spring context needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private CustomUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret",
+                "mysupersecretkeymysupersecretkeymysupersecretkey123456");
+        ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 86_400_000L);
+        provider.init();
+
+        userDetails = new CustomUserDetails(User.builder()
+                .id(1L)
+                .email("bench@test.com")
+                .role(Role.ROLE_USER)
+                .build());
+        token = provider.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Claims getAllClaimsFromToken() {
+        return provider.getAllClaimsFromToken(token);
+    }
+}
@@ -0,0 +1,107 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.BenchmarkContext;
+import com.booking.application.cache.SlotIntervalIndex;
+import com.booking.application.dtos.request.CreateSlotRequest;
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.entity.Slot;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.exceptions.CustomException;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.service.SlotService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot creation against 10,000 existing slots in H2:
+ * the overlap rejection path (index only) and a successful insert,
+ * plus the entity → DTO mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlotServiceBenchmark {
+
+    private static final int EXISTING_SLOTS = 10_000;
+    private static final long SLOT_MINUTES = 30;
+
+    private ConfigurableApplicationContext context;
+    private SlotService slotService;
+
+    private LocalDateTime base;
+    private LocalDateTime nextFree;
+    private int cursor;
+    private Slot slot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        slotService = context.getBean(SlotService.class);
+
+        base = LocalDateTime.now().plusYears(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+
+        List<Slot> slots = new ArrayList<>(EXISTING_SLOTS);
+        for (int i = 0; i < EXISTING_SLOTS; i++) {
+            LocalDateTime start = base.plusMinutes(i * SLOT_MINUTES);
+            slots.add(Slot.builder()
+                    .startTime(start)
+                    .endTime(start.plusMinutes(SLOT_MINUTES))
+                    .status(SlotStatus.AVAILABLE)
+                    .build());
+        }
+        context.getBean(SlotRepository.class).saveAll(slots);
+        context.getBean(SlotIntervalIndex.class).reload();
+
+        nextFree = base.plusMinutes(EXISTING_SLOTS * SLOT_MINUTES);
+        slot = slots.get(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomException createSlot_overlapRejected() {
+        // 10 minutes into an existing slot → overlap
+        LocalDateTime start = base.plusMinutes((cursor++ % EXISTING_SLOTS) * SLOT_MINUTES + 10);
+        try {
+            slotService.createSlot(request(start, start.plusMinutes(SLOT_MINUTES)));
+        } catch (CustomException ex) {
+            return ex;
+        }
+        throw new IllegalStateException("overlap was not detected");
+    }
+
+    @Benchmark
+    public SlotResponse createSlot_accepted() {
+        LocalDateTime start = nextFree;
+        nextFree = nextFree.plusMinutes(SLOT_MINUTES);
+        return slotService.createSlot(request(start, start.plusMinutes(SLOT_MINUTES)));
+    }
+
+    @Benchmark
+    public SlotResponse mapToResponse() {
+        return SlotServiceImpl.mapToResponse(slot);
+    }
+
+    private static CreateSlotRequest request(LocalDateTime start, LocalDateTime end) {
+        CreateSlotRequest request = new CreateSlotRequest();
+        request.setStartTime(start);
+        request.setEndTime(end);
+        return request;
+    }
+}
@@ -0,0 +1,57 @@
+package com.booking.application.utils;
+
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.enums.SlotStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON body of GET /api/slots: ApiResponse<List<SlotResponse>>,
+ * written with an ObjectMapper configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseJsonBenchmark {
+
+    @Param({"20", "200", "500"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<SlotResponse>> body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 8, 0);
+        List<SlotResponse> slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime s = start.plusMinutes(30L * i);
+            slots.add(new SlotResponse((long) i + 1, s, s.plusMinutes(30),
+                    i % 3 == 0 ? SlotStatus.BOOKED : SlotStatus.AVAILABLE));
+        }
+        body = new ApiResponse<>(true, "Slots fetched successfully", slots);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(body);
+    }
+}
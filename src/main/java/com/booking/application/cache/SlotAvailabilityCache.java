@@ -0,0 +1,129 @@
+package com.booking.application.cache;
+
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.events.SlotStatusChangedEvent;
+import com.booking.application.events.SlotsCreatedEvent;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.utils.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of slot availability, one entry per calendar day.
+ *
+ * Each entry is an immutable, start-time ordered list of every slot
+ * starting that day. Entries are bounded by size and TTL, and are
+ * patched in place after commit when slots are booked, cancelled or
+ * created, so a booked slot never shows as available.
+ *
+ * Entries are futures: a load runs on the requesting thread (outside the
+ * map lock, see {@link CacheLoads}) and an update arriving while a day
+ * is loading is chained onto that load, so it is applied on top.
+ */
+@Component
+public class SlotAvailabilityCache {
+
+    private static final Comparator<SlotResponse> BY_START_THEN_ID =
+            Comparator.comparing(SlotResponse::getStartTime)
+                    .thenComparing(SlotResponse::getId);
+
+    private final SlotRepository slotRepository;
+    private final SlotIntervalIndex slotIntervalIndex;
+    private final AsyncCache<LocalDate, List<SlotResponse>> days;
+
+    public SlotAvailabilityCache(
+            SlotRepository slotRepository,
+            SlotIntervalIndex slotIntervalIndex,
+            @Value("${slots.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${slots.cache.max-days:400}") long maxDays) {
+
+        this.slotRepository = slotRepository;
+        this.slotIntervalIndex = slotIntervalIndex;
+        this.days = Caffeine.newBuilder()
+                // cheap maintenance on the calling thread, not ForkJoinPool.commonPool()
+                .executor(Runnable::run)
+                .maximumSize(maxDays)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+    }
+
+    // ================= READ =================
+
+    /**
+     * All slots starting on the given day, ordered by (startTime, id).
+     */
+    public List<SlotResponse> getDay(LocalDate day) {
+        return CacheLoads.getOnCallerThread(days, day, this::loadDay);
+    }
+
+    private List<SlotResponse> loadDay(LocalDate day) {
+        return List.copyOf(slotRepository.findAllStartingBetween(
+                day.atStartOfDay(),
+                day.plusDays(1).atStartOfDay()));
+    }
+
+    // ================= WRITE-THROUGH (after commit) =================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotStatusChanged(SlotStatusChangedEvent event) {
+
+        SlotInterval interval = slotIntervalIndex.findById(event.slotId());
+
+        if (interval == null) {
+            // Unknown slot → cannot target a day, drop everything
+            days.synchronous().invalidateAll();
+            return;
+        }
+
+        days.asMap().computeIfPresent(interval.startTime().toLocalDate(),
+                (day, loading) -> loading.thenApply(slots -> slots.stream()
+                        .map(slot -> slot.getId().equals(event.slotId())
+                                ? new SlotResponse(slot.getId(), slot.getStartTime(),
+                                        slot.getEndTime(), event.status())
+                                : slot)
+                        .toList()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsCreated(SlotsCreatedEvent event) {
+
+        Map<LocalDate, List<SlotResponse>> createdByDay = event.slots().stream()
+                .collect(Collectors.groupingBy(slot -> slot.getStartTime().toLocalDate()));
+
+        createdByDay.forEach((createdDay, created) ->
+                days.asMap().computeIfPresent(createdDay, (day, loading) ->
+                        loading.thenApply(slots -> {
+                            List<SlotResponse> updated = new ArrayList<>(slots);
+                            updated.addAll(created);
+                            updated.sort(BY_START_THEN_ID);
+                            return List.copyOf(updated);
+                        })));
+    }
+
+    // ================= STATS =================
+
+    public CacheStats stats() {
+        return days.synchronous().stats();
+    }
+
+    public long size() {
+        return days.synchronous().estimatedSize();
+    }
+
+    public void invalidateAll() {
+        days.synchronous().invalidateAll();
+    }
+}
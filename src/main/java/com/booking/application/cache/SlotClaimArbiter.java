@@ -0,0 +1,133 @@
+package com.booking.application.cache;
+
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.events.SlotStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process admission gate for bookings, one entry per claimed slot.
+ *
+ * At most one request per slot is let through to the transactional
+ * path at a time (IN_FLIGHT). Once that request commits, the slot is
+ * remembered as BOOKED for a short TTL, so the flood of late requests
+ * is answered from memory without borrowing a DB connection.
+ *
+ * The database stays the source of truth: a rolled back claim is
+ * released, a cancellation clears the entry after commit, and the TTL
+ * bounds how long a slot freed by any other path can be misreported.
+ * Transitions are compare-and-set on the claim instance (identity), so
+ * a late markBooked or release never resurrects an entry that a cancel
+ * already cleared, nor touches the claim of a request admitted since.
+ */
+@Component
+public class SlotClaimArbiter {
+
+    public enum State {
+        IN_FLIGHT,
+        BOOKED
+    }
+
+    /**
+     * One request's hold on a slot. Deliberately not a record: equality
+     * is identity, so replace/remove only ever match the caller's own
+     * claim, never an equal-looking claim of a later request.
+     */
+    public static final class Claim {
+
+        private final State state;
+        private final long expiresAtNanos;
+
+        private Claim(State state, long expiresAtNanos) {
+            this.state = state;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        public State state() {
+            return state;
+        }
+
+        boolean isLive(long now) {
+            return state == State.IN_FLIGHT || now - expiresAtNanos < 0;
+        }
+    }
+
+    private final Map<Long, Claim> claims = new ConcurrentHashMap<>();
+    private final long bookedTtlNanos;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public SlotClaimArbiter(
+            @Value("${booking.admission.booked-ttl-seconds:30}") long bookedTtlSeconds) {
+        this.bookedTtlNanos = Duration.ofSeconds(bookedTtlSeconds).toNanos();
+    }
+
+    // ================= ADMISSION =================
+
+    /**
+     * Claims the slot for the calling request.
+     *
+     * @return the claim to settle with {@link #markBooked} or
+     *         {@link #release}, or null when another request holds
+     *         the slot or it is known to be booked
+     */
+    public Claim tryAcquire(Long slotId) {
+        long now = System.nanoTime();
+        Claim mine = new Claim(State.IN_FLIGHT, 0);
+
+        Claim winner = claims.compute(slotId, (id, current) ->
+                current != null && current.isLive(now) ? current : mine);
+
+        if (winner != mine) {
+            rejected.increment();
+            return null;
+        }
+        admitted.increment();
+        return mine;
+    }
+
+    /**
+     * Booking committed → answer later requests from memory for the TTL.
+     */
+    public void markBooked(Long slotId, Claim claim) {
+        claims.replace(slotId, claim,
+                new Claim(State.BOOKED, System.nanoTime() + bookedTtlNanos));
+    }
+
+    /**
+     * Booking rolled back → let the next request try.
+     */
+    public void release(Long slotId, Claim claim) {
+        claims.remove(slotId, claim);
+    }
+
+    // ================= INVALIDATION (after commit) =================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotStatusChanged(SlotStatusChangedEvent event) {
+        if (event.status() == SlotStatus.AVAILABLE) {
+            claims.remove(event.slotId());
+        }
+    }
+
+    // ================= STATS =================
+
+    public int size() {
+        return claims.size();
+    }
+
+    public long admittedCount() {
+        return admitted.sum();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+}
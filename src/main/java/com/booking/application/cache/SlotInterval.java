@@ -0,0 +1,14 @@
+package com.booking.application.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight [startTime, endTime) view of a slot.
+ * id is null while the slot is still being inserted.
+ */
+public record SlotInterval(Long id, LocalDateTime startTime, LocalDateTime endTime) {
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return start.isBefore(endTime) && end.isAfter(startTime);
+    }
+}
@@ -0,0 +1,220 @@
+package com.booking.application.cache;
+
+import com.booking.application.repository.SlotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of all slot intervals, ordered by start time.
+ *
+ * Slots never overlap, so sorting by start also sorts by end and
+ * the only slot that can overlap [start, end) is the one with the
+ * greatest start before end. That makes duplicate / overlap checks
+ * a single O(log n) TreeMap lookup instead of a table scan.
+ *
+ * New slots are reserved as "pending" while their transaction runs
+ * and are confirmed or released once it completes.
+ *
+ * This is a fast path for one instance only: it rejects most conflicts
+ * without a query, but it cannot see slots written by another instance
+ * or outside SlotServiceImpl. The service therefore re-checks the stored
+ * slots inside the insert transaction. Two creates on different instances
+ * at the same moment can still both pass that re-check (neither sees the
+ * other's uncommitted row); only exact duplicates are then stopped by
+ * uk_slots_start_end, so run slot creation on a single instance.
+ */
+@Component
+public class SlotIntervalIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotIntervalIndex.class);
+
+    public enum Conflict {
+        NONE,
+        DUPLICATE,
+        OVERLAP
+    }
+
+    private final SlotRepository slotRepository;
+
+    // start time → interval (committed or pending)
+    private final NavigableMap<LocalDateTime, SlotInterval> byStart = new TreeMap<>();
+
+    // slot id → interval (committed only)
+    private final Map<Long, SlotInterval> byId = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean loaded;
+
+    public SlotIntervalIndex(SlotRepository slotRepository) {
+        this.slotRepository = slotRepository;
+    }
+
+    // ================= WARM-UP =================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the index from the database.
+     */
+    public void reload() {
+        List<SlotInterval> intervals = slotRepository.findAllIntervals();
+
+        lock.writeLock().lock();
+        try {
+            byStart.clear();
+            byId.clear();
+            intervals.forEach(this::putCommitted);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("Slot interval index loaded with {} slots", intervals.size());
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            reload();
+        }
+    }
+
+    // ================= QUERIES =================
+
+    public SlotInterval findById(Long slotId) {
+        ensureLoaded();
+
+        lock.readLock().lock();
+        try {
+            return byId.get(slotId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byStart.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ================= RESERVE / CONFIRM / RELEASE =================
+
+    /**
+     * Atomically checks [start, end) and, if free, reserves it as pending
+     * so concurrent creators cannot claim an overlapping interval.
+     */
+    public Conflict reserve(LocalDateTime start, LocalDateTime end) {
+        ensureLoaded();
+
+        lock.writeLock().lock();
+        try {
+            Conflict conflict = findConflict(start, end);
+            if (conflict == Conflict.NONE) {
+                byStart.put(start, new SlotInterval(null, start, end));
+            }
+            return conflict;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * All-or-nothing variant of {@link #reserve} for bulk creation.
+     * Candidates must not overlap each other.
+     *
+     * @return the first conflicting candidate, or null if all were reserved
+     */
+    public SlotInterval reserveAll(List<SlotInterval> candidates) {
+        ensureLoaded();
+
+        lock.writeLock().lock();
+        try {
+            for (SlotInterval candidate : candidates) {
+                if (findConflict(candidate.startTime(), candidate.endTime()) != Conflict.NONE) {
+                    return candidate;
+                }
+            }
+            for (SlotInterval candidate : candidates) {
+                byStart.put(candidate.startTime(), candidate);
+            }
+            return null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks a pending reservation as committed under the given id.
+     */
+    public void confirm(Long slotId, LocalDateTime start, LocalDateTime end) {
+        lock.writeLock().lock();
+        try {
+            putCommitted(new SlotInterval(slotId, start, end));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops a pending reservation after its transaction rolled back.
+     */
+    public void release(LocalDateTime start) {
+        lock.writeLock().lock();
+        try {
+            SlotInterval current = byStart.get(start);
+            if (current != null && current.id() == null) {
+                byStart.remove(start);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ================= INTERNAL =================
+
+    private Conflict findConflict(LocalDateTime start, LocalDateTime end) {
+
+        SlotInterval sameStart = byStart.get(start);
+        if (sameStart != null && sameStart.endTime().equals(end)) {
+            return Conflict.DUPLICATE;
+        }
+
+        // Greatest start strictly before the new end
+        Map.Entry<LocalDateTime, SlotInterval> candidate = byStart.lowerEntry(end);
+        if (candidate != null && candidate.getValue().overlaps(start, end)) {
+            return Conflict.OVERLAP;
+        }
+
+        return Conflict.NONE;
+    }
+
+    private void putCommitted(SlotInterval interval) {
+        byId.put(interval.id(), interval);
+
+        // Legacy rows may share a start time; keep the widest one
+        // so overlap checks stay conservative.
+        byStart.merge(interval.startTime(), interval, (existing, added) ->
+                existing.id() != null && existing.endTime().isAfter(added.endTime())
+                        ? existing
+                        : added);
+    }
+}
@@ -17,6 +17,7 @@ public class CorsConfig {
                         .allowedOrigins("http://localhost:5173")
                         .allowedMethods("GET", "POST", "PUT", "DELETE")
                         .allowedHeaders("*")
+                        .exposedHeaders("X-Next-Cursor", "X-Request-Id", "Server-Timing")
                         .allowCredentials(true);
             }
         };
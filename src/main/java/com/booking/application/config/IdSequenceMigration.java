@@ -0,0 +1,76 @@
+package com.booking.application.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * One-way migration from IDENTITY columns to pooled sequences.
+ *
+ * Existing databases (e.g. the EC2 file DB) already contain rows whose
+ * ids were assigned by IDENTITY, while ddl-auto=update creates the new
+ * sequences starting at 1. Before any insert happens, every sequence is
+ * moved past MAX(id) so the pooled optimizer hands out fresh ids.
+ *
+ * Runs during context startup (after the schema update, before the web
+ * server accepts requests) and is a no-op once sequences are aligned.
+ */
+@Component
+public class IdSequenceMigration implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceMigration.class);
+
+    // Must match allocationSize of the @SequenceGenerator on each entity
+    private static final int ALLOCATION_SIZE = 50;
+
+    // sequence → table
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "SLOTS_SEQ", "slots",
+            "BOOKINGS_SEQ", "bookings",
+            "USERS_SEQ", "users"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Depending on the EntityManagerFactory guarantees the schema update ran first
+    public IdSequenceMigration(JdbcTemplate jdbcTemplate,
+                               EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String sequence, String table) {
+
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM " + table, Long.class);
+
+        if (maxId == null) {
+            return;
+        }
+
+        Long nextValue = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                Long.class,
+                sequence);
+
+        // Pooled optimizer uses (value - allocationSize, value] as its first block
+        long required = maxId + ALLOCATION_SIZE;
+
+        if (nextValue != null && nextValue >= required) {
+            return;
+        }
+
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + required);
+
+        log.info("Sequence {} moved to {} (max {}.id = {})", sequence, required, table, maxId);
+    }
+}
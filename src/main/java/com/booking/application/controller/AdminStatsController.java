@@ -0,0 +1,110 @@
+package com.booking.application.controller;
+
+import com.booking.application.cache.SlotAvailabilityCache;
+import com.booking.application.cache.SlotClaimArbiter;
+import com.booking.application.outbox.OutboxDispatcher;
+import com.booking.application.security.jwt.VerifiedTokenCache;
+import com.booking.application.stream.SlotEventBus;
+import com.booking.application.utils.ApiResponse;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Operational counters for in-process caches (ADMIN only).
+ */
+@RestController
+@RequestMapping("/api/admin/stats")
+@RequiredArgsConstructor
+public class AdminStatsController {
+
+    private final SlotAvailabilityCache slotAvailabilityCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final SlotClaimArbiter slotClaimArbiter;
+    private final SlotEventBus slotEventBus;
+    private final OutboxDispatcher outboxDispatcher;
+
+    // ================= SLOT AVAILABILITY CACHE =================
+    @GetMapping("/slot-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> slotCacheStats() {
+
+        Map<String, Object> body =
+                toMap(slotAvailabilityCache.size(), slotAvailabilityCache.stats());
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Slot cache stats", body)
+        );
+    }
+
+    // ================= VERIFIED TOKEN CACHE =================
+    @GetMapping("/token-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> tokenCacheStats() {
+
+        Map<String, Object> body =
+                toMap(verifiedTokenCache.size(), verifiedTokenCache.stats());
+        body.put("enabled", verifiedTokenCache.isEnabled());
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Token cache stats", body)
+        );
+    }
+
+    // ================= BOOKING ADMISSION GATE =================
+    @GetMapping("/admission")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> admissionStats() {
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("size", slotClaimArbiter.size());
+        body.put("admittedCount", slotClaimArbiter.admittedCount());
+        body.put("rejectedCount", slotClaimArbiter.rejectedCount());
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Admission stats", body)
+        );
+    }
+
+    // ================= LIVE SLOT STREAM =================
+    @GetMapping("/slot-stream")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> slotStreamStats() {
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("subscribers", slotEventBus.subscriberCount());
+        body.put("epoch", slotEventBus.epoch());
+        body.put("lastSequence", slotEventBus.lastSequence());
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Slot stream stats", body)
+        );
+    }
+
+    // ================= OUTBOX =================
+    @GetMapping("/outbox")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> outboxStats() {
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Outbox stats", outboxDispatcher.statusCounts())
+        );
+    }
+
+    private Map<String, Object> toMap(long size, CacheStats stats) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("size", size);
+        body.put("hitCount", stats.hitCount());
+        body.put("missCount", stats.missCount());
+        body.put("hitRate", stats.hitRate());
+        body.put("evictionCount", stats.evictionCount());
+        return body;
+    }
+}
@@ -0,0 +1,92 @@
+package com.booking.application.controller;
+
+import com.booking.application.tracing.RequestTrace;
+import com.booking.application.tracing.RequestTracer;
+import com.booking.application.utils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Slowest recent requests with their span breakdown (ADMIN only).
+ */
+@RestController
+@RequestMapping("/api/admin/traces")
+@RequiredArgsConstructor
+public class AdminTraceController {
+
+    // Long SQL (e.g. IN lists) is cut to keep the payload readable
+    private static final int MAX_DETAIL_LENGTH = 300;
+
+    private final RequestTracer requestTracer;
+
+    // ================= SLOWEST REQUESTS =================
+    @GetMapping("/slowest")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> slowest(
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        List<Map<String, Object>> body = requestTracer.slowest().stream()
+                .limit(Math.max(0, limit))
+                .map(this::toMap)
+                .toList();
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Slowest requests", body)
+        );
+    }
+
+    // ================= RESET =================
+    @DeleteMapping("/slowest")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> clear() {
+
+        requestTracer.clearSlowest();
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "Slowest requests cleared", null)
+        );
+    }
+
+    private Map<String, Object> toMap(RequestTrace trace) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("requestId", trace.getRequestId());
+        body.put("method", trace.getMethod());
+        body.put("path", trace.getPath());
+        body.put("handler", trace.getHandler());
+        body.put("status", trace.getStatus());
+        body.put("startedAt", trace.getStartedAt().toString());
+        body.put("durationMs", millis(trace.getDurationNanos()));
+        body.put("droppedSpans", trace.getDroppedSpans());
+        body.put("spans", trace.getSpans().stream().map(this::toMap).toList());
+        return body;
+    }
+
+    private Map<String, Object> toMap(RequestTrace.Span span) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", span.name());
+        body.put("detail", truncate(span.detail()));
+        body.put("offsetMs", millis(span.offsetNanos()));
+        body.put("durationMs", millis(span.durationNanos()));
+        return body;
+    }
+
+    private static String truncate(String detail) {
+        return detail == null || detail.length() <= MAX_DETAIL_LENGTH
+                ? detail
+                : detail.substring(0, MAX_DETAIL_LENGTH) + "…";
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
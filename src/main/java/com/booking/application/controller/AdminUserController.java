@@ -0,0 +1,31 @@
+package com.booking.application.controller;
+
+import com.booking.application.service.AuthService;
+import com.booking.application.utils.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+public class AdminUserController {
+
+    private final AuthService authService;
+
+    // ================= REVOKE ALL TOKENS OF A USER =================
+    @PostMapping("/{id}/revoke-tokens")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> revokeTokens(
+            @PathVariable Long id
+    ) {
+        authService.revokeTokens(id);
+        return ResponseEntity.ok(
+                new ApiResponse<>(true, "User tokens revoked", null)
+        );
+    }
+}
@@ -7,6 +7,7 @@ import com.booking.application.dtos.response.AuthResponse;
 import com.booking.application.service.AuthService;
 //import com.assignment.fullstack_assignment.service.RefreshTokenService;
 import com.booking.application.utils.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -39,9 +40,11 @@ public class AuthController {
     // ============ LOGIN ============
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(
-            @Valid @RequestBody LoginRequest request) {
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
 
-        AuthResponse response = authService.login(request);
+        // Remote address (proxy headers apply only if server.forward-headers-strategy is set)
+        AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
 
         return ResponseEntity.ok(
                 new ApiResponse<>(true, "Login successful", response)
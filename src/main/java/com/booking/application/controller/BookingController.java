@@ -1,11 +1,18 @@
 package com.booking.application.controller;
 
+import com.booking.application.dtos.response.BookingDetailsResponse;
 import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.dtos.response.CursorPage;
+import com.booking.application.enums.BookingStatus;
 import com.booking.application.service.BookingService;
 import com.booking.application.utils.ApiResponse;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
 public class BookingController {
@@ -48,4 +55,49 @@ public class BookingController {
                 new ApiResponse<>(true, "Booking cancelled by admin", null)
         );
     }
+
+    // ================= MY BOOKINGS =================
+    // GET /bookings/me?status=&from=&to=&cursor=&limit=
+    // Newest first, next page cursor in the X-Next-Cursor header
+    @GetMapping("/bookings/me")
+    public ResponseEntity<ApiResponse<List<BookingDetailsResponse>>> myBookings(
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return page(bookingService.getMyBookings(status, from, to, cursor, limit));
+    }
+
+    // ================= ADMIN LIST =================
+    // GET /admin/bookings?userId=&slotId=&status=&from=&to=&cursor=&limit=
+    @GetMapping("/admin/bookings")
+    public ResponseEntity<ApiResponse<List<BookingDetailsResponse>>> listBookings(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long slotId,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        return page(bookingService.getBookings(userId, slotId, status, from, to, cursor, limit));
+    }
+
+    private static ResponseEntity<ApiResponse<List<BookingDetailsResponse>>> page(
+            CursorPage<BookingDetailsResponse> page
+    ) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(SlotController.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(
+                new ApiResponse<>(true, "Bookings fetched successfully", page.getItems())
+        );
+    }
 }
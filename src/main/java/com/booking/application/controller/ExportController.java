@@ -0,0 +1,63 @@
+package com.booking.application.controller;
+
+import com.booking.application.enums.ExportFormat;
+import com.booking.application.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Streaming reporting exports (ADMIN only).
+ * Rows are written as they are read, never collected in memory.
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+
+    private final ExportService exportService;
+
+    // ================= EXPORT SLOTS =================
+    @GetMapping("/slots")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportSlots(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        return stream("slots", format,
+                out -> exportService.exportSlots(format, out));
+    }
+
+    // ================= EXPORT BOOKINGS =================
+    @GetMapping("/bookings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        return stream("bookings", format,
+                out -> exportService.exportBookings(format, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(
+            String name,
+            ExportFormat format,
+            StreamingResponseBody body) {
+
+        String extension = format == ExportFormat.CSV ? "csv" : "ndjson";
+
+        return ResponseEntity.ok()
+                .contentType(format == ExportFormat.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + extension + "\"")
+                .body(body);
+    }
+}
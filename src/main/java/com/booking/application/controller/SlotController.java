@@ -1,15 +1,20 @@
 package com.booking.application.controller;
 
+import com.booking.application.dtos.request.BulkCreateSlotRequest;
 import com.booking.application.dtos.request.CreateSlotRequest;
+import com.booking.application.dtos.response.CursorPage;
 import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.enums.SlotStatus;
 import com.booking.application.service.SlotService;
 import com.booking.application.utils.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,6 +22,9 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SlotController {
 
+    // Response header carrying the cursor of the next page (absent on last page)
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final SlotService slotService;
 
     /**
@@ -44,16 +52,64 @@ public class SlotController {
         );
     }
 
+    /**
+     * ================= BULK CREATE SLOTS =================
+     * POST /slots/bulk
+     * Role: ADMIN
+     *
+     * - Accepts an explicit slot list OR a recurrence rule
+     * - Whole batch is validated and inserted in one transaction
+     * - Any overlap rejects the whole batch
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<SlotResponse>>> createSlots(
+            @Valid @RequestBody BulkCreateSlotRequest request
+    ) {
+        List<SlotResponse> slots = slotService.createSlots(request);
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(
+                        true,
+                        slots.size() + " slots created successfully",
+                        slots
+                )
+        );
+    }
 
+    /**
+     * ================= LIST SLOTS =================
+     * GET /slots?from=&to=&status=&cursor=&limit=
+     * Role: USER, ADMIN
+     *
+     * - Window defaults to today → +7 days (max 31 days)
+     * - Ordered by start time, keyset paginated
+     * - Next page cursor returned in the X-Next-Cursor header
+     */
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','USER')")
-    public ResponseEntity<ApiResponse<List<SlotResponse>>> getAllSlots() {
+    public ResponseEntity<ApiResponse<List<SlotResponse>>> getSlots(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) SlotStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "200") int limit
+    ) {
+        CursorPage<SlotResponse> page =
+                slotService.getSlots(from, to, status, cursor, limit);
 
-        return ResponseEntity.ok(
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+
+        return response.body(
                 new ApiResponse<>(
                         true,
                         "Slots fetched successfully",
-                        slotService.getAllSlots()
+                        page.getItems()
                 )
         );
     }
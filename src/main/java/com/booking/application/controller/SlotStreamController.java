@@ -0,0 +1,131 @@
+package com.booking.application.controller;
+
+import com.booking.application.dtos.response.StreamTicketResponse;
+import com.booking.application.security.jwt.JwtAuthenticationFilter;
+import com.booking.application.security.jwt.StreamTicketStore;
+import com.booking.application.security.jwt.VerifiedToken;
+import com.booking.application.stream.SlotEventBus;
+import com.booking.application.utils.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Live slot availability over Server-Sent Events.
+ *
+ * Replaces polling {@code GET /api/slots}: open the stream, then load the
+ * window once and apply the deltas as they arrive (see SlotDelta).
+ * The stream is opened with a single-use ticket, so the browser's own
+ * retry (same URL, spent ticket) gets 401. Clients close that
+ * {@code EventSource} and reopen with a fresh ticket plus
+ * {@code lastEventId}, which resumes right after the last change they saw.
+ */
+@RestController
+@RequestMapping("/api/slots")
+@RequiredArgsConstructor
+public class SlotStreamController {
+
+    private final SlotEventBus slotEventBus;
+    private final StreamTicketStore streamTicketStore;
+
+    // Connections are recycled now and then; clients resume with a fresh ticket
+    @Value("${slots.stream.timeout-minutes:30}")
+    private long timeoutMinutes = 30;
+
+    /**
+     * ================= SLOT STREAM =================
+     * GET /slots/stream
+     * Role: USER, ADMIN
+     *
+     * - text/event-stream, one JSON delta per event
+     * - Resume: Last-Event-ID header (or lastEventId param)
+     * - EventSource cannot set headers → ?ticket= (see below) is accepted here
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+            HttpServletResponse response
+    ) {
+        // nginx: pass events through immediately instead of buffering
+        response.setHeader("X-Accel-Buffering", "no");
+
+        SseEmitter emitter = new SseEmitter(Duration.ofMinutes(timeoutMinutes).toMillis());
+
+        SlotEventBus.Subscription subscription = slotEventBus.subscribe(
+                new SseSink(emitter),
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+
+        emitter.onCompletion(subscription::cancel);
+        emitter.onError(ex -> subscription.cancel());
+        emitter.onTimeout(() -> {
+            subscription.cancel();
+            emitter.complete();
+        });
+
+        return emitter;
+    }
+
+    /**
+     * ================= STREAM TICKET =================
+     * POST /slots/stream/ticket
+     * Role: USER, ADMIN
+     *
+     * - Exchanges the bearer token for a single-use ticket that opens the
+     *   stream (GET /slots/stream?ticket=...) within a few seconds
+     * - Keeps the JWT itself out of URLs (access logs, proxies, history)
+     * - A reconnect needs a fresh ticket
+     */
+    @PostMapping("/stream/ticket")
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    public ResponseEntity<ApiResponse<StreamTicketResponse>> streamTicket(
+            @RequestAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE) VerifiedToken token
+    ) {
+        StreamTicketResponse ticket = new StreamTicketResponse(
+                streamTicketStore.issue(token),
+                streamTicketStore.ttl().toSeconds());
+
+        return ResponseEntity.ok(
+                new ApiResponse<>(
+                        true,
+                        "Stream ticket issued",
+                        ticket
+                )
+        );
+    }
+
+    private record SseSink(SseEmitter emitter) implements SlotEventBus.Sink {
+
+        @Override
+        public void send(SlotEventBus.Frame frame) throws IOException {
+            if (frame.isHeartbeat()) {
+                emitter.send(SseEmitter.event().comment("ping"));
+                return;
+            }
+            // data is already JSON → written as-is
+            emitter.send(SseEmitter.event()
+                    .id(frame.id())
+                    .data(frame.data()));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
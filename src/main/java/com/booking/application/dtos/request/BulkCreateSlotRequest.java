@@ -0,0 +1,21 @@
+package com.booking.application.dtos.request;
+
+import jakarta.validation.Valid;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Bulk slot creation.
+ * Exactly one of {@code slots} (explicit list) or
+ * {@code recurrence} (generated pattern) must be provided.
+ */
+@Data
+public class BulkCreateSlotRequest {
+
+    @Valid
+    private List<CreateSlotRequest> slots;
+
+    @Valid
+    private SlotRecurrenceRule recurrence;
+}
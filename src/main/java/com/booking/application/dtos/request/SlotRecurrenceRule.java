@@ -0,0 +1,41 @@
+package com.booking.application.dtos.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+/**
+ * Recurring slot pattern, e.g.
+ * MONDAY–FRIDAY, 09:00–17:00, 30 minute slots, for 12 weeks
+ */
+@Data
+public class SlotRecurrenceRule {
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "Number of weeks is required")
+    @Min(value = 1, message = "Weeks must be at least 1")
+    @Max(value = 53, message = "Weeks must be at most 53")
+    private Integer weeks;
+
+    @NotEmpty(message = "At least one day of week is required")
+    private Set<DayOfWeek> daysOfWeek;
+
+    @NotNull(message = "Day start time is required")
+    private LocalTime dayStartTime;
+
+    @NotNull(message = "Day end time is required")
+    private LocalTime dayEndTime;
+
+    @NotNull(message = "Slot length is required")
+    @Min(value = 5, message = "Slot length must be at least 5 minutes")
+    private Integer slotMinutes;
+}
@@ -0,0 +1,39 @@
+package com.booking.application.dtos.response;
+
+import com.booking.application.enums.BookingStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking with its slot (and owner, for admins), built by a single
+ * constructor-expression query — no lazy loads per row.
+ * User fields are absent from the caller's own listing.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingDetailsResponse {
+    private Long bookingId;
+    private BookingStatus status;
+    private LocalDateTime createdAt;
+    private Long slotId;
+    private LocalDateTime slotStartTime;
+    private LocalDateTime slotEndTime;
+    private Long userId;
+    private String userEmail;
+
+    // "My bookings" projection (owner is the caller)
+    public BookingDetailsResponse(Long bookingId,
+                                  BookingStatus status,
+                                  LocalDateTime createdAt,
+                                  Long slotId,
+                                  LocalDateTime slotStartTime,
+                                  LocalDateTime slotEndTime) {
+        this(bookingId, status, createdAt, slotId, slotStartTime, slotEndTime, null, null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.booking.application.dtos.response;
+
+import com.booking.application.enums.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat booking row used by the reporting export
+ * (booking + slot + user in a single projection)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingExportRow {
+    private Long bookingId;
+    private BookingStatus status;
+    private LocalDateTime createdAt;
+    private Long slotId;
+    private LocalDateTime slotStartTime;
+    private LocalDateTime slotEndTime;
+    private Long userId;
+    private String userEmail;
+}
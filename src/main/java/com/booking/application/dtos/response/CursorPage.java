@@ -0,0 +1,18 @@
+package com.booking.application.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing.
+ * nextCursor is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+}
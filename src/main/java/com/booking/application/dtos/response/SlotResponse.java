@@ -2,8 +2,10 @@ package com.booking.application.dtos.response;
 
 import com.booking.application.enums.SlotStatus;
 import jakarta.persistence.SecondaryTable;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
@@ -11,6 +13,8 @@ import java.time.LocalDateTime;
 @Data
 @Setter
 @Getter
+@NoArgsConstructor
+@AllArgsConstructor
 public class SlotResponse {
     private Long id;
     private LocalDateTime startTime;
@@ -0,0 +1,13 @@
+package com.booking.application.dtos.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamTicketResponse {
+    private String ticket;
+    private long expiresInSeconds;
+}
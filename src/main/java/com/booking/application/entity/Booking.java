@@ -7,7 +7,17 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(
+        name = "bookings",
+        indexes = {
+                // "my bookings", newest first
+                @Index(name = "idx_bookings_user_created", columnList = "user_id, created_at"),
+                // bookings of a slot by status (active booking lookup, admin filter)
+                @Index(name = "idx_bookings_slot_status", columnList = "slot_id, status"),
+                // admin listing of all bookings, newest first
+                @Index(name = "idx_bookings_created", columnList = "created_at, id")
+        }
+)
 @Setter
 @Getter
 @NoArgsConstructor
@@ -16,8 +26,10 @@ import java.time.LocalDateTime;
 
 public class Booking {
 
+    // Pooled sequence (allocationSize = 50) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     // Many bookings → One user
@@ -0,0 +1,75 @@
+package com.booking.application.entity;
+
+import com.booking.application.enums.OutboxEventType;
+import com.booking.application.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One side effect still to run, written in the same transaction as the
+ * change that caused it. One row per (event, handler), so a failing
+ * handler is retried alone.
+ */
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = {
+                // dispatcher poll: PENDING rows that are due, oldest first
+                @Index(name = "idx_outbox_status_due", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbox_claim_token", columnList = "claim_token")
+        }
+)
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+
+public class OutboxEvent {
+
+    // Pooled sequence (allocationSize = 50) so Hibernate can batch inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private OutboxEventType type;
+
+    // e.g. the booking id
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    // OutboxHandler#name()
+    @Column(nullable = false, length = 40)
+    private String handler;
+
+    // JSON
+    @Column(nullable = false, length = 2000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // due time; while claimed, the end of the dispatcher's lease
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+}
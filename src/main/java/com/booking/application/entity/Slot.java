@@ -7,7 +7,17 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "slots")
+@Table(
+        name = "slots",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_slots_start_end",
+                columnNames = {"start_time", "end_time"}
+        ),
+        indexes = @Index(
+                name = "idx_slots_start_status",
+                columnList = "start_time, status"
+        )
+)
 @Setter
 @Getter
 @NoArgsConstructor
@@ -15,8 +25,10 @@ import java.time.LocalDateTime;
 @Builder
 
 public class Slot {
+    // Pooled sequence (allocationSize = 50) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slots_seq")
+    @SequenceGenerator(name = "slots_seq", sequenceName = "slots_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
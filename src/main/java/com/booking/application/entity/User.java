@@ -3,6 +3,7 @@ package com.booking.application.entity;
 import com.booking.application.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "users")
@@ -13,8 +14,10 @@ import lombok.*;
 @Builder
 public class User {
 
+    // Pooled sequence (allocationSize = 50) so Hibernate can batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -30,5 +33,11 @@ public class User {
     @Column(nullable = false)
     private Role role;
 
+    // Bumped to revoke every token issued so far (carried as "ver" claim)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int tokenVersion = 0;
+
 
 }
\ No newline at end of file
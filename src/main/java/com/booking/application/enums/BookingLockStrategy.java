@@ -0,0 +1,6 @@
+package com.booking.application.enums;
+
+public enum BookingLockStrategy {
+    PESSIMISTIC,          // SELECT ... FOR UPDATE, waiters queue on the row lock
+    CONDITIONAL_UPDATE    // single guarded UPDATE, 0 rows after the winner commits → 409
+}
@@ -0,0 +1,6 @@
+package com.booking.application.enums;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,8 @@
+package com.booking.application.enums;
+
+public enum OutboxEventType {
+    BOOKING_CONFIRMED,
+    // cancelled by the booking's owner
+    BOOKING_CANCELED,
+    BOOKING_CANCELED_BY_ADMIN
+}
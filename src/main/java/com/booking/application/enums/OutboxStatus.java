@@ -0,0 +1,9 @@
+package com.booking.application.enums;
+
+public enum OutboxStatus {
+    // waiting for (another) delivery attempt
+    PENDING,
+    PROCESSED,
+    // gave up after outbox.dispatcher.max-attempts
+    FAILED
+}
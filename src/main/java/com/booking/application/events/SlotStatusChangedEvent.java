@@ -0,0 +1,10 @@
+package com.booking.application.events;
+
+import com.booking.application.enums.SlotStatus;
+
+/**
+ * Published when a booking or cancellation changes a slot's status.
+ * Listeners react after the transaction commits.
+ */
+public record SlotStatusChangedEvent(Long slotId, SlotStatus status) {
+}
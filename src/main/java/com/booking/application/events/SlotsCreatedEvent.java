@@ -0,0 +1,12 @@
+package com.booking.application.events;
+
+import com.booking.application.dtos.response.SlotResponse;
+
+import java.util.List;
+
+/**
+ * Published when one or more slots are created.
+ * Listeners react after the transaction commits.
+ */
+public record SlotsCreatedEvent(List<SlotResponse> slots) {
+}
@@ -0,0 +1,20 @@
+package com.booking.application.exceptions;
+
+/**
+ * Request could not be completed in time (e.g. a group-commit booking
+ * that waited too long for its batch). Mapped to 503 with a Retry-After
+ * header.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
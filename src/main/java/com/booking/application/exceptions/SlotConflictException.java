@@ -0,0 +1,7 @@
+package com.booking.application.exceptions;
+
+public class SlotConflictException extends CustomException {
+    public SlotConflictException(String message) {
+        super(message);
+    }
+}
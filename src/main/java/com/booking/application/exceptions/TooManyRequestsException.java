@@ -0,0 +1,19 @@
+package com.booking.application.exceptions;
+
+/**
+ * Request rejected to protect the server (login throttling, saturated
+ * hashing pool). Mapped to 429 with a Retry-After header.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
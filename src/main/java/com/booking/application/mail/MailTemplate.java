@@ -0,0 +1,93 @@
+package com.booking.application.mail;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A text template with {@code {{name}}} placeholders, split into
+ * literal and variable parts once at startup. Rendering is a single
+ * pass of appends: no parsing, regex or reflection per message.
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+
+    // literals.length == variables.length + 1
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private MailTemplate(String name, List<String> literals, List<String> variables) {
+        this.name = name;
+        this.literals = literals.toArray(String[]::new);
+        this.variables = variables.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * @throws IllegalArgumentException on an unclosed or empty placeholder
+     */
+    public static MailTemplate compile(String name, String source) {
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                literals.add(source.substring(position));
+                return new MailTemplate(name, literals, variables);
+            }
+
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in mail template '" + name + "'");
+            }
+
+            String variable = source.substring(open + OPEN.length(), close).trim();
+            if (variable.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in mail template '" + name + "'");
+            }
+
+            literals.add(source.substring(position, open));
+            variables.add(variable);
+            position = close + CLOSE.length();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException when a placeholder has no value
+     */
+    public String render(Map<String, ?> values) {
+
+        StringBuilder out = new StringBuilder(literalLength + 16 * variables.length);
+
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+
+            Object value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException(
+                        "No value for '" + variables[i] + "' in mail template '" + name + "'");
+            }
+            out.append(value);
+        }
+
+        return out.append(literals[variables.length]).toString();
+    }
+
+    public Set<String> variables() {
+        return new LinkedHashSet<>(List.of(variables));
+    }
+
+    public String name() {
+        return name;
+    }
+}
@@ -0,0 +1,74 @@
+package com.booking.application.mail;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * All mail templates, loaded from {@code classpath:mail/*.txt} and
+ * compiled once at startup (a broken template fails the boot, not a
+ * mail at 3 am).
+ *
+ * File layout: first line {@code Subject: ...}, a blank line, then the
+ * body. Both parts may use {@code {{placeholders}}}.
+ */
+@Component
+public class MailTemplates {
+
+    private static final String LOCATION = "classpath:mail/*.txt";
+    private static final String SUBJECT_PREFIX = "Subject:";
+
+    private record Compiled(MailTemplate subject, MailTemplate body) {}
+
+    private final Map<String, Compiled> templates = new HashMap<>();
+
+    public MailTemplates() {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                String filename = resource.getFilename();
+                String name = filename.substring(0, filename.length() - ".txt".length());
+                templates.put(name, compile(name,
+                        resource.getContentAsString(StandardCharsets.UTF_8)));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot load mail templates", ex);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException for an unknown template or a missing value
+     */
+    public RenderedMail render(String template, Map<String, ?> values) {
+
+        Compiled compiled = templates.get(template);
+        if (compiled == null) {
+            throw new IllegalArgumentException("Unknown mail template '" + template + "'");
+        }
+
+        return new RenderedMail(
+                compiled.subject().render(values),
+                compiled.body().render(values));
+    }
+
+    private static Compiled compile(String name, String source) {
+
+        String text = source.replace("\r\n", "\n");
+        int headerEnd = text.indexOf("\n\n");
+
+        if (!text.startsWith(SUBJECT_PREFIX) || headerEnd < 0) {
+            throw new IllegalArgumentException(
+                    "Mail template '" + name + "' must start with 'Subject: ...' and a blank line");
+        }
+
+        return new Compiled(
+                MailTemplate.compile(name + ".subject",
+                        text.substring(SUBJECT_PREFIX.length(), headerEnd).trim()),
+                MailTemplate.compile(name, text.substring(headerEnd + 2)));
+    }
+}
@@ -0,0 +1,4 @@
+package com.booking.application.mail;
+
+public record RenderedMail(String subject, String body) {
+}
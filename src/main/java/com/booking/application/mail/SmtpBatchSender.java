@@ -0,0 +1,161 @@
+package com.booking.application.mail;
+
+import com.booking.application.metrics.OperationMetrics;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends batches of messages over one SMTP connection that is kept open
+ * between batches.
+ *
+ * {@code JavaMailSender.send} opens and closes a connection per call
+ * (TCP + EHLO + STARTTLS + AUTH each time). Here the connection is reused
+ * until it has been idle for {@code mail.smtp.idle-close-seconds}, and
+ * checked with a NOOP before each batch in case the server dropped it.
+ *
+ * Uses the host, credentials and {@code spring.mail.properties.*}
+ * (timeouts!) of Boot's mail sender. Without {@code spring.mail.host}
+ * there is none and {@link #isConfigured()} is false.
+ */
+@Component
+public class SmtpBatchSender implements DisposableBean {
+
+    private final JavaMailSenderImpl config;
+    private final OperationMetrics metrics;
+    private final long idleCloseNanos;
+
+    // Guarded by this: batches go out one at a time over the connection
+    private Transport transport;
+    private long lastUsedNanos;
+
+    private final ScheduledExecutorService idleCloser;
+
+    public SmtpBatchSender(
+            ObjectProvider<JavaMailSender> mailSender,
+            OperationMetrics metrics,
+            @Value("${mail.smtp.idle-close-seconds:30}") long idleCloseSeconds) {
+
+        JavaMailSender sender = mailSender.getIfAvailable();
+        this.config = sender instanceof JavaMailSenderImpl impl ? impl : null;
+        this.metrics = metrics;
+        this.idleCloseNanos = TimeUnit.SECONDS.toNanos(idleCloseSeconds);
+
+        this.idleCloser = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "smtp-idle-closer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (config != null && idleCloseSeconds > 0) {
+            long period = Math.max(1, idleCloseSeconds / 2);
+            idleCloser.scheduleWithFixedDelay(this::closeIfIdle, period, period, TimeUnit.SECONDS);
+        }
+    }
+
+    public boolean isConfigured() {
+        return config != null;
+    }
+
+    public MimeMessage createMessage() {
+        return new MimeMessage(config.getSession());
+    }
+
+    /**
+     * Sends every message over the shared connection.
+     *
+     * @return one entry per message: null when sent, otherwise the failure
+     * @throws MessagingException when no connection could be opened
+     *                            (nothing was sent)
+     */
+    public synchronized List<Exception> send(List<MimeMessage> messages) throws MessagingException {
+
+        Exception[] failures = new Exception[messages.size()];
+
+        connect();
+
+        for (int i = 0; i < messages.size(); i++) {
+            MimeMessage message = messages.get(i);
+            try {
+                transport.sendMessage(message, message.getAllRecipients());
+                metrics.count(OperationMetrics.MAIL_SENT, "result", "sent");
+
+            } catch (SendFailedException ex) {
+                // recipient rejected; the connection itself is fine
+                failures[i] = ex;
+                metrics.count(OperationMetrics.MAIL_SENT, "result", "rejected");
+
+            } catch (MessagingException ex) {
+                // connection broken → this and the rest fail, reconnect next batch
+                closeQuietly();
+                Arrays.fill(failures, i, failures.length, ex);
+                metrics.count(OperationMetrics.MAIL_SENT, "result", "error");
+                break;
+            }
+        }
+
+        lastUsedNanos = System.nanoTime();
+        return Arrays.asList(failures);
+    }
+
+    private void connect() throws MessagingException {
+
+        // isConnected() sends NOOP over SMTP → detects a dropped connection
+        if (transport != null && transport.isConnected()) {
+            return;
+        }
+        closeQuietly();
+
+        // same protocol resolution as JavaMailSenderImpl
+        String protocol = config.getProtocol();
+        if (protocol == null) {
+            protocol = config.getSession().getProperty("mail.transport.protocol");
+        }
+        if (protocol == null) {
+            protocol = JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        }
+
+        Transport fresh = config.getSession().getTransport(protocol);
+        fresh.connect(config.getHost(), config.getPort(), config.getUsername(), config.getPassword());
+
+        transport = fresh;
+        metrics.count(OperationMetrics.MAIL_SMTP_CONNECTIONS);
+    }
+
+    private synchronized void closeIfIdle() {
+        if (transport != null && System.nanoTime() - lastUsedNanos > idleCloseNanos) {
+            closeQuietly();
+        }
+    }
+
+    private void closeQuietly() {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException ignored) {
+            // closing anyway
+        }
+        transport = null;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        idleCloser.shutdownNow();
+        closeQuietly();
+    }
+}
@@ -0,0 +1,153 @@
+package com.booking.application.metrics;
+
+import com.booking.application.exceptions.CustomException;
+import com.booking.application.exceptions.SlotConflictException;
+import com.booking.application.exceptions.TooManyRequestsException;
+import com.booking.application.exceptions.UserAlreadyExistsException;
+import com.booking.application.tracing.RequestTracer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * OperationMetrics
+ * -----------------
+ * Timers for the booking, slot, auth and JWT paths, all tagged by
+ * {@code outcome}. Exposed at /actuator/prometheus, e.g.
+ * {@code booking_book_seconds_count{outcome="conflict"}}.
+ *
+ * Meter names live here so dashboards have one place to look.
+ *
+ * Every recording is also added as a span to the current request trace
+ * (see {@link RequestTracer}), so one call feeds both views.
+ */
+@Component
+public class OperationMetrics {
+
+    // ================= METER NAMES =================
+
+    // end-to-end booking (admission gate + transaction + commit)
+    public static final String BOOKING_BOOK = "booking.book";
+    public static final String BOOKING_CANCEL = "booking.cancel";
+
+    // time spent acquiring the slot row (FOR UPDATE wait or guarded UPDATE)
+    public static final String BOOKING_LOCK_WAIT = "booking.lock.wait";
+
+    // begin → commit / rollback, tagged by operation
+    public static final String DB_TRANSACTION = "db.transaction";
+
+    public static final String SLOT_OVERLAP_CHECK = "slot.overlap.check";
+
+    public static final String AUTH_LOGIN = "auth.login";
+    public static final String AUTH_REGISTER = "auth.register";
+    public static final String AUTH_PASSWORD = "auth.password";
+
+    // counters: login attempts by result, hashing pool turning work away
+    public static final String AUTH_LOGIN_ATTEMPTS = "auth.login.attempts";
+    public static final String AUTH_PASSWORD_OVERLOAD = "auth.password.overload";
+    public static final String AUTH_PASSWORD_REHASH = "auth.password.rehash";
+
+    // authentication part of the filter only (not the downstream chain)
+    public static final String JWT_FILTER = "security.jwt.filter";
+
+    // live slot feed: connected clients, disconnects by reason, resumes
+    public static final String SLOT_STREAM_SUBSCRIBERS = "slots.stream.subscribers";
+    public static final String SLOT_STREAM_DISCONNECTS = "slots.stream.disconnects";
+    public static final String SLOT_STREAM_RESUMES = "slots.stream.resumes";
+
+    // outbox: one handler call per batch, tagged by handler; rows given up on
+    public static final String OUTBOX_DISPATCH = "outbox.dispatch";
+    public static final String OUTBOX_FAILED = "outbox.failed";
+
+    // mail: messages by result, SMTP connections opened (low = reused)
+    public static final String MAIL_SENT = "mail.sent";
+    public static final String MAIL_SMTP_CONNECTIONS = "mail.smtp.connections";
+
+    private final MeterRegistry registry;
+    private final RequestTracer tracer;
+
+    public OperationMetrics(MeterRegistry registry, RequestTracer tracer) {
+        this.registry = registry;
+        this.tracer = tracer;
+    }
+
+    // Start of a timed operation (monotonic nanos)
+    public record Sample(long startNanos) {}
+
+    public Sample start() {
+        return new Sample(System.nanoTime());
+    }
+
+    /**
+     * Stops the sample into {@code name}, tagged with the outcome
+     * plus any extra key/value tags.
+     */
+    public void record(Sample sample, String name, String outcome, String... tags) {
+        long duration = System.nanoTime() - sample.startNanos();
+        registry.timer(name, Tags.of(tags).and("outcome", outcome))
+                .record(duration, TimeUnit.NANOSECONDS);
+        tracer.record(name, outcome, sample.startNanos(), duration);
+    }
+
+    public void count(String name, String... tags) {
+        registry.counter(name, tags).increment();
+    }
+
+    /**
+     * Gauge sampled from {@code target} at scrape time.
+     */
+    public <T> void gauge(String name, T target, ToDoubleFunction<T> value) {
+        registry.gauge(name, Tags.empty(), target, value);
+    }
+
+    /**
+     * Times the surrounding transaction from now until it completes,
+     * tagged committed / rolled_back. No-op outside a transaction.
+     */
+    public void timeTransaction(String operation) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        Sample sample = start();
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        record(sample, DB_TRANSACTION,
+                                status == STATUS_COMMITTED ? "committed" : "rolled_back",
+                                "operation", operation);
+                    }
+                });
+    }
+
+    /**
+     * Maps a failure to a low-cardinality outcome tag.
+     */
+    public static String outcome(Throwable ex) {
+        if (ex == null) {
+            return "success";
+        }
+        if (ex instanceof SlotConflictException || ex instanceof UserAlreadyExistsException) {
+            return "conflict";
+        }
+        if (ex instanceof TooManyRequestsException) {
+            return "throttled";
+        }
+        if (ex instanceof AuthenticationException) {
+            return "bad_credentials";
+        }
+        if (ex instanceof CustomException) {
+            return "rejected";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,35 @@
+package com.booking.application.outbox;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxEventType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes every booking lifecycle event to the {@code booking.audit}
+ * logger (route it to its own file / shipper via logging config).
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.handlers.audit.enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogHandler implements OutboxHandler {
+
+    private static final Logger audit = LoggerFactory.getLogger("booking.audit");
+
+    @Override
+    public String name() {
+        return "audit";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return true;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        audit.info("{} aggregateId={} at={} payload={}",
+                event.getType(), event.getAggregateId(), event.getCreatedAt(), event.getPayload());
+    }
+}
@@ -0,0 +1,10 @@
+package com.booking.application.outbox;
+
+/**
+ * Outbox payload of BOOKING_CONFIRMED / BOOKING_CANCELED.
+ *
+ * Ids only: everything else is read by the handler, outside the
+ * booking transaction.
+ */
+public record BookingEventPayload(Long bookingId, Long slotId, Long userId) {
+}
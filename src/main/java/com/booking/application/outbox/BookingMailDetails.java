@@ -0,0 +1,17 @@
+package com.booking.application.outbox;
+
+import com.booking.application.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Booking + slot + user fields used in booking mails (one projection query).
+ */
+public record BookingMailDetails(
+        Long bookingId,
+        BookingStatus status,
+        LocalDateTime slotStartTime,
+        LocalDateTime slotEndTime,
+        String userName,
+        String userEmail) {
+}
@@ -0,0 +1,162 @@
+package com.booking.application.outbox;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxEventType;
+import com.booking.application.mail.MailTemplates;
+import com.booking.application.mail.RenderedMail;
+import com.booking.application.mail.SmtpBatchSender;
+import com.booking.application.repository.BookingRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Booking confirmation (BOOKING_CONFIRMED) and admin cancellation notice
+ * (BOOKING_CANCELED_BY_ADMIN) for the booking's owner.
+ *
+ * A dispatcher batch is handled in one go: one query for all bookings,
+ * precompiled templates, one reused SMTP connection for all messages.
+ *
+ * Without an SMTP server (no {@code spring.mail.host}) the mails are
+ * written to the log instead, so local runs need no mail server.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.handlers.mail.enabled", havingValue = "true", matchIfMissing = true)
+public class BookingMailHandler implements OutboxHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingMailHandler.class);
+
+    private static final DateTimeFormatter TIME =
+            DateTimeFormatter.ofPattern("EEE d MMM yyyy, HH:mm", Locale.ENGLISH);
+
+    // event type → template in classpath:mail/
+    private static final Map<OutboxEventType, String> TEMPLATES = Map.of(
+            OutboxEventType.BOOKING_CONFIRMED, "booking-confirmed",
+            OutboxEventType.BOOKING_CANCELED_BY_ADMIN, "booking-canceled-by-admin"
+    );
+
+    private final BookingRepository bookingRepository;
+    private final MailTemplates mailTemplates;
+    private final SmtpBatchSender smtpBatchSender;
+
+    @Value("${outbox.mail.from:no-reply@techpulse.local}")
+    private String from = "no-reply@techpulse.local";
+
+    public BookingMailHandler(BookingRepository bookingRepository,
+                              MailTemplates mailTemplates,
+                              SmtpBatchSender smtpBatchSender) {
+        this.bookingRepository = bookingRepository;
+        this.mailTemplates = mailTemplates;
+        this.smtpBatchSender = smtpBatchSender;
+    }
+
+    @Override
+    public String name() {
+        return "mail";
+    }
+
+    @Override
+    public boolean supports(OutboxEventType type) {
+        return TEMPLATES.containsKey(type);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        Exception failure = handleBatch(List.of(event)).get(event.getId());
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public Map<Long, Exception> handleBatch(List<OutboxEvent> events) {
+
+        Map<Long, Exception> failures = new HashMap<>();
+
+        // 1️⃣ All bookings of the batch in one query
+        Map<Long, BookingMailDetails> details = bookingRepository.findMailDetails(
+                        events.stream().map(OutboxEvent::getAggregateId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(BookingMailDetails::bookingId, Function.identity()));
+
+        // 2️⃣ Render (precompiled templates, no I/O)
+        List<OutboxEvent> toSend = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>();
+
+        for (OutboxEvent event : events) {
+            BookingMailDetails booking = details.get(event.getAggregateId());
+            if (booking == null) {
+                // booking gone → nothing to tell anyone
+                continue;
+            }
+            try {
+                RenderedMail mail = mailTemplates.render(TEMPLATES.get(event.getType()), values(booking));
+
+                if (!smtpBatchSender.isConfigured()) {
+                    log.info("SMTP not configured, mail not sent: to={} subject=\"{}\"",
+                            booking.userEmail(), mail.subject());
+                    continue;
+                }
+
+                messages.add(toMessage(booking.userEmail(), mail));
+                toSend.add(event);
+
+            } catch (Exception ex) {
+                failures.put(event.getId(), ex);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        // 3️⃣ One SMTP connection for the whole batch
+        try {
+            List<Exception> results = smtpBatchSender.send(messages);
+            for (int i = 0; i < toSend.size(); i++) {
+                if (results.get(i) != null) {
+                    failures.put(toSend.get(i).getId(), results.get(i));
+                }
+            }
+        } catch (MessagingException ex) {
+            // server unreachable → whole batch retried with backoff
+            toSend.forEach(event -> failures.put(event.getId(), ex));
+        }
+
+        return failures;
+    }
+
+    private MimeMessage toMessage(String to, RenderedMail mail) throws MessagingException {
+        MimeMessage message = smtpBatchSender.createMessage();
+        message.setFrom(new InternetAddress(from));
+        message.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress(to));
+        message.setSubject(mail.subject(), StandardCharsets.UTF_8.name());
+        message.setText(mail.body(), StandardCharsets.UTF_8.name());
+        message.saveChanges();
+        return message;
+    }
+
+    private static Map<String, Object> values(BookingMailDetails booking) {
+        return Map.of(
+                "bookingId", booking.bookingId(),
+                "userName", booking.userName(),
+                "slotStart", TIME.format(booking.slotStartTime()),
+                "slotEnd", TIME.format(booking.slotEndTime())
+        );
+    }
+}
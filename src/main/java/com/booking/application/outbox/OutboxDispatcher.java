@@ -0,0 +1,356 @@
+package com.booking.application.outbox;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxStatus;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * OutboxDispatcher
+ * ----------------
+ * Drains the outbox to the {@link OutboxHandler}s, off the request path.
+ *
+ * One poller thread claims due rows in batches, a small bounded worker
+ * pool runs the handlers (each gets all of its rows of a batch at once),
+ * and the results are written back in one short transaction per batch.
+ * Failed rows are retried with exponential backoff and end up FAILED
+ * after {@code max-attempts}.
+ *
+ * Runs on a fixed delay and is woken shortly after a commit that wrote
+ * outbox rows; the commits of one wake-up delay share a single poll.
+ * Claims are leases, so several instances can share the table and rows
+ * of a crashed run are picked up again. Results are written back only
+ * for rows that still carry the run's claim token, so a run that
+ * outlived its lease cannot overwrite the run that took its rows over.
+ *
+ * Own threads, not an {@code Executor} bean (that would replace Boot's
+ * default task executor).
+ */
+@Component
+public class OutboxDispatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, OutboxHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final OperationMetrics metrics;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final long pollIntervalMillis;
+    private final long wakeUpDelayMillis;
+    private final Duration retention;
+
+    private final ScheduledExecutorService poller;
+    private final ThreadPoolExecutor workers;
+
+    // a wake-up poll is already queued on the poller
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+    private volatile boolean started;
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            List<OutboxHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            OperationMetrics metrics,
+            @Value("${outbox.dispatcher.enabled:true}") boolean enabled,
+            @Value("${outbox.dispatcher.batch-size:100}") int batchSize,
+            @Value("${outbox.dispatcher.worker-threads:2}") int workerThreads,
+            @Value("${outbox.dispatcher.max-attempts:8}") int maxAttempts,
+            @Value("${outbox.dispatcher.initial-backoff-ms:1000}") long initialBackoffMillis,
+            @Value("${outbox.dispatcher.max-backoff-seconds:600}") long maxBackoffSeconds,
+            @Value("${outbox.dispatcher.lease-seconds:60}") long leaseSeconds,
+            @Value("${outbox.dispatcher.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${outbox.dispatcher.wake-up-delay-ms:50}") long wakeUpDelayMillis,
+            @Value("${outbox.retention-hours:24}") long retentionHours) {
+
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(OutboxHandler::name, Function.identity()));
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.wakeUpDelayMillis = wakeUpDelayMillis;
+        this.retention = Duration.ofHours(retentionHours);
+
+        this.poller = Executors.newSingleThreadScheduledExecutor(daemonThreads("outbox-dispatcher-"));
+
+        // Queue holds exactly one batch: the poller never submits more
+        this.workers = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                daemonThreads("outbox-worker-"));
+    }
+
+    // ================= LIFECYCLE =================
+
+    // Only once the app is up: no deliveries during startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        if (!enabled || started) {
+            return;
+        }
+        started = true;
+
+        poller.scheduleWithFixedDelay(this::poll,
+                0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        poller.scheduleWithFixedDelay(this::purge,
+                1, 60, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Requests a poll within wake-up-delay-ms (called after commit). Cheap
+     * and coalesced: all commits until that poll starts share it, so under
+     * load the dispatcher works in full batches instead of one poll (and
+     * two transactions) per booking.
+     */
+    public void wakeUp() {
+        if (started && wakeUpPending.compareAndSet(false, true)) {
+            try {
+                poller.schedule(this::poll, wakeUpDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                // shutting down; the rows wait for the next start
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        poller.shutdownNow();
+        workers.shutdown();
+        // unfinished rows are redelivered once their lease ends
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    // ================= POLL =================
+
+    private void poll() {
+        wakeUpPending.set(false);
+        try {
+            // keep going while full batches come back
+            while (dispatchBatch() == batchSize) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException ex) {
+            // shutting down
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            // never let an exception cancel the scheduled task
+            log.warn("Outbox poll failed: {}", ex.toString());
+        }
+    }
+
+    int dispatchBatch() throws InterruptedException {
+
+        // 1️⃣ Claim a batch of due rows (short transaction)
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            List<Long> ids = outboxEventRepository.findDueIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            outboxEventRepository.claim(ids, token, now, now.plus(lease));
+            return outboxEventRepository.findByClaimTokenOrderById(token);
+        });
+
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // 2️⃣ One task per handler with all of its rows, on the worker pool,
+        //    no transaction open
+        Map<String, List<OutboxEvent>> byHandler = batch.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getHandler,
+                        LinkedHashMap::new, Collectors.toList()));
+
+        List<Future<Map<Long, Exception>>> results = new ArrayList<>(byHandler.size());
+        for (Map.Entry<String, List<OutboxEvent>> group : byHandler.entrySet()) {
+            results.add(workers.submit(() -> deliver(group.getKey(), group.getValue())));
+        }
+
+        Map<Long, Exception> failures = new HashMap<>();
+        for (Future<Map<Long, Exception>> result : results) {
+            try {
+                failures.putAll(result.get());
+            } catch (ExecutionException ex) {
+                // deliver() does not throw; kept for completeness
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+
+        List<Long> processed = new ArrayList<>();
+        Map<OutboxEvent, Throwable> failed = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            Exception failure = failures.get(event.getId());
+            if (failure == null) {
+                processed.add(event.getId());
+            } else {
+                failed.put(event, failure);
+            }
+        }
+
+        // 3️⃣ Record the results for the rows still claimed (short transaction)
+        LocalDateTime done = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            int recorded = 0;
+            if (!processed.isEmpty()) {
+                recorded += outboxEventRepository.markProcessed(processed, token, done);
+            }
+            for (Map.Entry<OutboxEvent, Throwable> entry : failed.entrySet()) {
+                recorded += reschedule(entry.getKey(), entry.getValue(), token, done);
+            }
+            if (recorded < batch.size()) {
+                // lease ran out mid-batch; the new claimant delivers those rows again
+                log.warn("Outbox lease expired for {} of {} events, results left to the new claimant",
+                        batch.size() - recorded, batch.size());
+            }
+        });
+
+        return batch.size();
+    }
+
+    // Returns failures instead of throwing, so one bad row never hides the others
+    private Map<Long, Exception> deliver(String handlerName, List<OutboxEvent> events) {
+
+        OutboxHandler handler = handlers.get(handlerName);
+        if (handler == null) {
+            Exception missing = new IllegalStateException("No outbox handler named '" + handlerName + "'");
+            return events.stream().collect(Collectors.toMap(OutboxEvent::getId, event -> missing));
+        }
+
+        OperationMetrics.Sample sample = metrics.start();
+        Map<Long, Exception> failures;
+        try {
+            failures = handler.handleBatch(events);
+        } catch (Exception ex) {
+            failures = events.stream().collect(Collectors.toMap(OutboxEvent::getId, event -> ex));
+        }
+
+        metrics.record(sample, OperationMetrics.OUTBOX_DISPATCH,
+                failures.isEmpty() ? "success" : "error",
+                "handler", handlerName);
+        return failures;
+    }
+
+    private int reschedule(OutboxEvent event, Throwable failure, String token, LocalDateTime now) {
+
+        int attempts = event.getAttempts() + 1;
+        boolean givingUp = attempts >= maxAttempts;
+
+        int updated = outboxEventRepository.markFailed(
+                event.getId(),
+                token,
+                givingUp ? OutboxStatus.FAILED : OutboxStatus.PENDING,
+                now.plus(backoff(attempts)),
+                truncate(failure.toString()));
+
+        // 0 rows → no longer ours; the new claimant decides whether it gives up
+        if (givingUp && updated > 0) {
+            metrics.count(OperationMetrics.OUTBOX_FAILED, "handler", event.getHandler());
+            log.error("Outbox event {} ({} -> {}) failed for good after {} attempts: {}",
+                    event.getId(), event.getType(), event.getHandler(), attempts, failure.toString());
+        } else {
+            log.warn("Outbox event {} ({} -> {}) failed, attempt {}: {}",
+                    event.getId(), event.getType(), event.getHandler(), attempts, failure.toString());
+        }
+        return updated;
+    }
+
+    // 1s, 2s, 4s ... capped at max-backoff
+    Duration backoff(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << exponent);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    // ================= HOUSEKEEPING =================
+
+    private void purge() {
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention)));
+            if (deleted != null && deleted > 0) {
+                log.info("Purged {} processed outbox events", deleted);
+            }
+        } catch (Exception ex) {
+            log.warn("Outbox purge failed: {}", ex.toString());
+        }
+    }
+
+    // ================= STATS =================
+
+    public Map<String, Long> statusCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (OutboxStatus status : OutboxStatus.values()) {
+            counts.put(status.name(), 0L);
+        }
+        for (Object[] row : outboxEventRepository.countByStatus()) {
+            counts.put(((OutboxStatus) row[0]).name(), (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.booking.application.outbox;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxEventType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A side effect of a booking lifecycle event (mail, audit, webhook ...).
+ *
+ * Every {@code @Component} implementing this is picked up: the writer
+ * adds one outbox row per supporting handler, the dispatcher delivers it.
+ *
+ * Delivery is at-least-once (a crash between handling and marking the
+ * row done repeats it), so handlers must tolerate duplicates.
+ */
+public interface OutboxHandler {
+
+    /**
+     * Stored on each outbox row; keep it stable across releases.
+     */
+    String name();
+
+    boolean supports(OutboxEventType type);
+
+    /**
+     * Throw to have the row retried later with backoff.
+     */
+    void handle(OutboxEvent event) throws Exception;
+
+    /**
+     * All of this handler's rows from one dispatcher batch. Override when
+     * handling them together is cheaper (one query, one connection).
+     *
+     * @return failures by outbox event id; rows not in the map succeeded
+     */
+    default Map<Long, Exception> handleBatch(List<OutboxEvent> events) {
+        Map<Long, Exception> failures = new HashMap<>();
+        for (OutboxEvent event : events) {
+            try {
+                handle(event);
+            } catch (Exception ex) {
+                failures.put(event.getId(), ex);
+            }
+        }
+        return failures;
+    }
+}
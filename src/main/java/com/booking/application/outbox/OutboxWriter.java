@@ -0,0 +1,84 @@
+package com.booking.application.outbox;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxEventType;
+import com.booking.application.enums.OutboxStatus;
+import com.booking.application.repository.OutboxEventRepository;
+import com.booking.application.utils.TransactionUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records side effects as outbox rows in the caller's transaction.
+ *
+ * The rows commit or roll back together with the booking, and the
+ * transaction itself only pays for the (batched) inserts: mail, audit
+ * and friends run later on the dispatcher's threads.
+ */
+@Component
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxHandler> handlers;
+    private final OutboxDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository,
+                        List<OutboxHandler> handlers,
+                        OutboxDispatcher dispatcher,
+                        ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Adds one row per handler supporting {@code type}.
+     * Must run inside the transaction that makes the change.
+     */
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Object payload) {
+
+        String json = json(payload);
+        LocalDateTime now = LocalDateTime.now();
+        boolean written = false;
+
+        for (OutboxHandler handler : handlers) {
+            if (!handler.supports(type)) {
+                continue;
+            }
+
+            // id from the pooled sequence, INSERT batched at flush
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .type(type)
+                    .aggregateId(aggregateId)
+                    .handler(handler.name())
+                    .payload(json)
+                    .status(OutboxStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+            written = true;
+        }
+
+        // Deliver right after commit instead of waiting for the next poll
+        if (written) {
+            TransactionUtils.afterCommit(dispatcher::wakeUp);
+        }
+    }
+
+    private String json(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize outbox payload", ex);
+        }
+    }
+}
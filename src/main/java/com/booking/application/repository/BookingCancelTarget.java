@@ -0,0 +1,10 @@
+package com.booking.application.repository;
+
+import com.booking.application.enums.BookingStatus;
+
+/**
+ * Foreign keys and status of one booking, read from the bookings row
+ * alone (no user or slot load) — all a cancel needs.
+ */
+public record BookingCancelTarget(Long bookingId, Long slotId, Long userId, BookingStatus status) {
+}
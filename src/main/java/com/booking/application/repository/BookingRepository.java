@@ -1,8 +1,173 @@
 package com.booking.application.repository;
 
+import com.booking.application.dtos.response.BookingDetailsResponse;
+import com.booking.application.dtos.response.BookingExportRow;
 import com.booking.application.entity.Booking;
+import com.booking.application.enums.BookingStatus;
+import com.booking.application.outbox.BookingMailDetails;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
+    //full export, streamed with a tuned fetch size (must run inside a transaction)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.booking.application.dtos.response.BookingExportRow(
+                   b.id, b.status, b.createdAt,
+                   s.id, s.startTime, s.endTime,
+                   u.id, u.email)
+            FROM Booking b
+            JOIN b.slot s
+            JOIN b.user u
+            ORDER BY b.id
+            """)
+    Stream<BookingExportRow> streamAllForExport();
+
+    //everything the booking mails of one outbox batch need, in one query
+    @Query("""
+            SELECT new com.booking.application.outbox.BookingMailDetails(
+                   b.id, b.status, s.startTime, s.endTime, u.name, u.email)
+            FROM Booking b
+            JOIN b.slot s
+            JOIN b.user u
+            WHERE b.id IN :bookingIds
+            """)
+    List<BookingMailDetails> findMailDetails(@Param("bookingIds") Collection<Long> bookingIds);
+
+    //Keyset listings below: newest first on (createdAt, id). Every filter is
+    //its own query, so the leading index column is always bound, and the
+    //keyset is written as a range (createdAt between :from and :beforeTime,
+    //ties broken by id) that the index can seek into; an optional
+    //":x IS NULL OR ..." filter or an OR-only keyset leaves H2 with a scan
+
+    //one user's bookings, range on idx_bookings_user_created, slot joined
+    @Query("""
+            SELECT new com.booking.application.dtos.response.BookingDetailsResponse(
+                   b.id, b.status, b.createdAt,
+                   s.id, s.startTime, s.endTime)
+            FROM Booking b
+            JOIN b.slot s
+            WHERE b.user.id = :userId
+              AND (:status IS NULL OR b.status = :status)
+              AND b.createdAt >= :from
+              AND b.createdAt <= :beforeTime
+              AND (b.createdAt < :beforeTime OR b.id < :beforeId)
+            ORDER BY b.createdAt DESC, b.id DESC
+            """)
+    List<BookingDetailsResponse> findPageForUser(
+            @Param("userId") Long userId,
+            @Param("status") BookingStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") Long beforeId,
+            Pageable limit);
+
+    //admin: all bookings, index-sorted range on idx_bookings_created
+    @Query("""
+            SELECT new com.booking.application.dtos.response.BookingDetailsResponse(
+                   b.id, b.status, b.createdAt,
+                   s.id, s.startTime, s.endTime,
+                   u.id, u.email)
+            FROM Booking b
+            JOIN b.slot s
+            JOIN b.user u
+            WHERE (:status IS NULL OR b.status = :status)
+              AND b.createdAt >= :from
+              AND b.createdAt <= :beforeTime
+              AND (b.createdAt < :beforeTime OR b.id < :beforeId)
+            ORDER BY b.createdAt DESC, b.id DESC
+            """)
+    List<BookingDetailsResponse> findPage(
+            @Param("status") BookingStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") Long beforeId,
+            Pageable limit);
+
+    //admin: one user's bookings with owner columns, range on idx_bookings_user_created
+    @Query("""
+            SELECT new com.booking.application.dtos.response.BookingDetailsResponse(
+                   b.id, b.status, b.createdAt,
+                   s.id, s.startTime, s.endTime,
+                   u.id, u.email)
+            FROM Booking b
+            JOIN b.slot s
+            JOIN b.user u
+            WHERE b.user.id = :userId
+              AND (:status IS NULL OR b.status = :status)
+              AND b.createdAt >= :from
+              AND b.createdAt <= :beforeTime
+              AND (b.createdAt < :beforeTime OR b.id < :beforeId)
+            ORDER BY b.createdAt DESC, b.id DESC
+            """)
+    List<BookingDetailsResponse> findPageForUserWithOwner(
+            @Param("userId") Long userId,
+            @Param("status") BookingStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") Long beforeId,
+            Pageable limit);
+
+    //admin: one slot's bookings (a handful), slot_id index; user filter optional
+    @Query("""
+            SELECT new com.booking.application.dtos.response.BookingDetailsResponse(
+                   b.id, b.status, b.createdAt,
+                   s.id, s.startTime, s.endTime,
+                   u.id, u.email)
+            FROM Booking b
+            JOIN b.slot s
+            JOIN b.user u
+            WHERE b.slot.id = :slotId
+              AND (:userId IS NULL OR b.user.id = :userId)
+              AND (:status IS NULL OR b.status = :status)
+              AND b.createdAt >= :from
+              AND b.createdAt <= :beforeTime
+              AND (b.createdAt < :beforeTime OR b.id < :beforeId)
+            ORDER BY b.createdAt DESC, b.id DESC
+            """)
+    List<BookingDetailsResponse> findPageForSlot(
+            @Param("slotId") Long slotId,
+            @Param("userId") Long userId,
+            @Param("status") BookingStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("beforeTime") LocalDateTime beforeTime,
+            @Param("beforeId") Long beforeId,
+            Pageable limit);
+
+    //cancel pre-check: FK columns + status of the bookings row, no joins
+    @Query("""
+            SELECT new com.booking.application.repository.BookingCancelTarget(
+                   b.id, b.slot.id, b.user.id, b.status)
+            FROM Booking b
+            WHERE b.id = :bookingId
+            """)
+    Optional<BookingCancelTarget> findCancelTarget(@Param("bookingId") Long bookingId);
+
+    //Guarded cancel: flips ACTIVE -> CANCELED in one statement
+    //returns 0 when another cancel got there first (or the owner does not match)
+    @Modifying
+    @Query("""
+            UPDATE Booking b
+            SET b.status = com.booking.application.enums.BookingStatus.CANCELED
+            WHERE b.id = :bookingId
+              AND b.user.id = :userId
+              AND b.status = com.booking.application.enums.BookingStatus.ACTIVE
+            """)
+    int cancelIfActive(@Param("bookingId") Long bookingId, @Param("userId") Long userId);
 }
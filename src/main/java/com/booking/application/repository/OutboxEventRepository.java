@@ -0,0 +1,91 @@
+package com.booking.application.repository;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    //due PENDING rows, oldest first (idx_outbox_status_due)
+    @Query("""
+            SELECT e.id
+            FROM OutboxEvent e
+            WHERE e.status = com.booking.application.enums.OutboxStatus.PENDING
+              AND e.nextAttemptAt <= :now
+            ORDER BY e.id
+            """)
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable limit);
+
+    //claims due rows for one dispatcher run by pushing them out by the lease;
+    //rows another instance claimed first are no longer due and are skipped.
+    //a crashed run's rows simply become due again when the lease ends
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.claimToken = :token, e.nextAttemptAt = :leaseUntil
+            WHERE e.id IN :ids
+              AND e.status = com.booking.application.enums.OutboxStatus.PENDING
+              AND e.nextAttemptAt <= :now
+            """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<OutboxEvent> findByClaimTokenOrderById(String claimToken);
+
+    //write-backs only touch rows still holding this run's claim: once the
+    //lease ran out and another run claimed them, that run owns the result
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.status = com.booking.application.enums.OutboxStatus.PROCESSED,
+                e.processedAt = :now,
+                e.attempts = e.attempts + 1,
+                e.claimToken = NULL
+            WHERE e.id IN :ids
+              AND e.claimToken = :token
+            """)
+    int markProcessed(@Param("ids") Collection<Long> ids,
+                      @Param("token") String token,
+                      @Param("now") LocalDateTime now);
+
+    //retry later (PENDING) or give up (FAILED)
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.status = :status,
+                e.attempts = e.attempts + 1,
+                e.nextAttemptAt = :nextAttemptAt,
+                e.lastError = :error,
+                e.claimToken = NULL
+            WHERE e.id = :id
+              AND e.claimToken = :token
+            """)
+    int markFailed(@Param("id") Long id,
+                   @Param("token") String token,
+                   @Param("status") OutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    //housekeeping: processed rows are only kept for a while
+    @Modifying
+    @Query("""
+            DELETE FROM OutboxEvent e
+            WHERE e.status = com.booking.application.enums.OutboxStatus.PROCESSED
+              AND e.processedAt < :cutoff
+            """)
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    //status → row count, for the admin stats endpoint
+    @Query("SELECT e.status, COUNT(e) FROM OutboxEvent e GROUP BY e.status")
+    List<Object[]> countByStatus();
+}
@@ -1,33 +1,134 @@
 package com.booking.application.repository;
 
+import com.booking.application.cache.SlotInterval;
+import com.booking.application.dtos.response.SlotResponse;
 import com.booking.application.entity.Slot;
+import com.booking.application.enums.SlotStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface  SlotRepository extends JpaRepository<Slot,Long> {
-    //duplicate slot check
-   boolean existsByStartTimeAndEndTime(LocalDateTime startTime, LocalDateTime endTime);
+    //DB-side overlap guard: slots never overlap, so only the slot with the
+    //greatest start before :endTime can overlap [startTime, endTime)
+    //(one backward step on idx_slots_start_status instead of a range scan)
+    @Query("""
+            SELECT new com.booking.application.cache.SlotInterval(s.id, s.startTime, s.endTime)
+            FROM Slot s
+            WHERE s.startTime < :endTime
+            ORDER BY s.startTime DESC
+            """)
+    List<SlotInterval> findLastStartingBefore(
+            @Param("endTime") LocalDateTime endTime,
+            Pageable limit);
+
+    //bulk counterpart: existing slots starting inside [from, to)
+    @Query("""
+            SELECT new com.booking.application.cache.SlotInterval(s.id, s.startTime, s.endTime)
+            FROM Slot s
+            WHERE s.startTime >= :from
+              AND s.startTime < :to
+            ORDER BY s.startTime
+            """)
+    List<SlotInterval> findIntervalsStartingBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 
-   //for overlapping slot check
+    //warm-up source for the in-memory interval index
     @Query("""
-            SELECT COUNT(s) > 0
+            SELECT new com.booking.application.cache.SlotInterval(s.id, s.startTime, s.endTime)
             FROM Slot s
-            WHERE 
-               :startTime < s.endTime
-               AND :endTime > s.startTime
             """)
-    boolean existsOverlappingSlot(
-           @Param("startTime") LocalDateTime startTime,
-           @Param("endTime") LocalDateTime endTime);
+    List<SlotInterval> findAllIntervals();
+
+    //time-window listing, keyset paginated on (startTime, id)
+    //served by idx_slots_start_status, returns DTOs (no managed entities)
+    @Query("""
+            SELECT new com.booking.application.dtos.response.SlotResponse(
+                   s.id, s.startTime, s.endTime, s.status)
+            FROM Slot s
+            WHERE s.startTime >= :from
+              AND s.startTime < :to
+              AND (:status IS NULL OR s.status = :status)
+              AND (s.startTime > :afterStart
+                   OR (s.startTime = :afterStart AND s.id > :afterId))
+            ORDER BY s.startTime, s.id
+            """)
+    List<SlotResponse> findWindow(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("status") SlotStatus status,
+            @Param("afterStart") LocalDateTime afterStart,
+            @Param("afterId") Long afterId,
+            Pageable limit);
+
+    //all slots starting in [from, to), used to fill the availability cache
+    @Query("""
+            SELECT new com.booking.application.dtos.response.SlotResponse(
+                   s.id, s.startTime, s.endTime, s.status)
+            FROM Slot s
+            WHERE s.startTime >= :from
+              AND s.startTime < :to
+            ORDER BY s.startTime, s.id
+            """)
+    List<SlotResponse> findAllStartingBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    //full export, streamed with a tuned fetch size (must run inside a transaction)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.booking.application.dtos.response.SlotResponse(
+                   s.id, s.startTime, s.endTime, s.status)
+            FROM Slot s
+            ORDER BY s.id
+            """)
+    Stream<SlotResponse> streamAllForExport();
 
     //Lock slot row to prevent race condition
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM Slot s WHERE s.id = :slotId")
     Optional<Slot> findByIdForUpdate( @Param("slotId") Long slotId);
+
+    //Lock many slot rows at once (group commit), id order avoids deadlocks
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Slot s WHERE s.id IN :slotIds ORDER BY s.id")
+    List<Slot> findAllByIdForUpdate(@Param("slotIds") Collection<Long> slotIds);
+
+    //Lock-free claim: flips AVAILABLE -> BOOKED in one statement
+    //returns 0 when the slot is missing or already booked
+    @Modifying
+    @Query("""
+            UPDATE Slot s
+            SET s.status = com.booking.application.enums.SlotStatus.BOOKED
+            WHERE s.id = :slotId
+              AND s.status = com.booking.application.enums.SlotStatus.AVAILABLE
+            """)
+    int claimIfAvailable(@Param("slotId") Long slotId);
+
+    //Cancel counterpart of claimIfAvailable: flips BOOKED -> AVAILABLE
+    @Modifying
+    @Query("""
+            UPDATE Slot s
+            SET s.status = com.booking.application.enums.SlotStatus.AVAILABLE
+            WHERE s.id = :slotId
+              AND s.status = com.booking.application.enums.SlotStatus.BOOKED
+            """)
+    int releaseIfBooked(@Param("slotId") Long slotId);
 }
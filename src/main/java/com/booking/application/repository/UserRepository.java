@@ -2,7 +2,12 @@ package com.booking.application.repository;
 
 
 import com.booking.application.entity.User;
+import com.booking.application.security.UserState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +15,26 @@ public interface UserRepository extends JpaRepository<User,Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
 
+    //role + token version only, used by stateless JWT authentication
+    @Query("""
+            SELECT new com.booking.application.security.UserState(u.role, u.tokenVersion)
+            FROM User u
+            WHERE u.id = :userId
+            """)
+    Optional<UserState> findStateById(@Param("userId") Long userId);
+
+    //invalidates every token issued so far
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
+
+    //rehash on login: only replaces the hash that was verified,
+    //a password changed in the meantime is left alone
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :userId AND u.password = :oldHash")
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("oldHash") String oldHash,
+                           @Param("newHash") String newHash);
+
 }
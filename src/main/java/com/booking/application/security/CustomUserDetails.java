@@ -48,4 +48,8 @@ public class CustomUserDetails implements UserDetails {
     public String getRole() {
         return user.getRole().name();
     }
+
+    public int getTokenVersion() {
+        return user.getTokenVersion();
+    }
 }
@@ -0,0 +1,147 @@
+package com.booking.application.security;
+
+import com.booking.application.exceptions.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket throttling for login attempts, per client IP and per email.
+ *
+ * Checked before the user lookup and BCrypt, so a credential-stuffing
+ * burst costs one map lookup per attempt instead of a hash.
+ *
+ * Adaptive: every attempt spends a token, a successful login refills
+ * the email's bucket. A user who mistypes once is never locked out by
+ * their own earlier attempts; repeated failures run the bucket dry.
+ *
+ * Buckets live in bounded Caffeine caches and expire when idle.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+
+    private final Cache<String, TokenBucket> byIp;
+    private final Cache<String, TokenBucket> byEmail;
+
+    private final int ipCapacity;
+    private final double ipTokensPerNano;
+    private final int emailCapacity;
+    private final double emailTokensPerNano;
+
+    public LoginRateLimiter(
+            @Value("${security.login.rate-limit.enabled:true}") boolean enabled,
+            @Value("${security.login.rate-limit.per-ip.capacity:20}") int ipCapacity,
+            @Value("${security.login.rate-limit.per-ip.refill-per-minute:60}") int ipRefillPerMinute,
+            @Value("${security.login.rate-limit.per-email.capacity:5}") int emailCapacity,
+            @Value("${security.login.rate-limit.per-email.refill-per-minute:5}") int emailRefillPerMinute,
+            @Value("${security.login.rate-limit.max-keys:100000}") long maxKeys) {
+
+        this.enabled = enabled;
+        this.ipCapacity = ipCapacity;
+        this.ipTokensPerNano = perNano(ipRefillPerMinute);
+        this.emailCapacity = emailCapacity;
+        this.emailTokensPerNano = perNano(emailRefillPerMinute);
+
+        this.byIp = buckets(maxKeys);
+        this.byEmail = buckets(maxKeys);
+    }
+
+    // ================= ADMISSION =================
+
+    /**
+     * Spends one token from the IP and the email bucket.
+     *
+     * @throws TooManyRequestsException when either bucket is empty
+     */
+    public void acquire(String email, String clientIp) {
+
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+
+        // 1️⃣ IP first: one address spraying many emails
+        long ipWait = byIp.get(clientIp, k -> new TokenBucket(ipCapacity, ipTokensPerNano, now))
+                .tryConsume(now);
+        if (ipWait > 0) {
+            throw throttled(ipWait);
+        }
+
+        // 2️⃣ Email: many addresses hammering one account
+        long emailWait = byEmail.get(email, k -> new TokenBucket(emailCapacity, emailTokensPerNano, now))
+                .tryConsume(now);
+        if (emailWait > 0) {
+            throw throttled(emailWait);
+        }
+    }
+
+    /**
+     * Verified login → the account gets its full budget back.
+     */
+    public void onSuccess(String email) {
+        if (enabled) {
+            byEmail.invalidate(email);
+        }
+    }
+
+    private static TooManyRequestsException throttled(long waitNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        return new TooManyRequestsException(
+                "Too many login attempts, try again in " + seconds + " seconds", seconds);
+    }
+
+    private static double perNano(int perMinute) {
+        return perMinute / (double) Duration.ofMinutes(1).toNanos();
+    }
+
+    private static Cache<String, TokenBucket> buckets(long maxKeys) {
+        return Caffeine.newBuilder()
+                // cheap maintenance on the calling thread, not ForkJoinPool.commonPool()
+                .executor(Runnable::run)
+                .maximumSize(maxKeys)
+                // idle long enough to be full again anyway
+                .expireAfterAccess(Duration.ofMinutes(15))
+                .build();
+    }
+
+    // ================= BUCKET =================
+
+    static final class TokenBucket {
+
+        private final int capacity;
+        private final double tokensPerNano;
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(int capacity, double tokensPerNano, long now) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerNano;
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise nanos until the next one
+         */
+        synchronized long tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return tokensPerNano > 0
+                    ? Math.max(1, (long) ((1 - tokens) / tokensPerNano))
+                    : Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.booking.application.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.Map;
+
+/**
+ * Builds the password encoder from configuration.
+ *
+ * New hashes are written as {@code {id}hash} with the configured
+ * algorithm and cost. Every known id can still be verified, and hashes
+ * from before the prefix existed ({@code $2a$10$...}) are read as BCrypt.
+ *
+ * {@link PasswordEncoder#upgradeEncoding} is true for a hash written
+ * with another algorithm, without a prefix, or with a lower BCrypt
+ * strength, so logins can rehash it transparently.
+ */
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * @param algorithm        {@code bcrypt} or {@code pbkdf2}
+     * @param bcryptStrength   log2 rounds, 4..31 (Spring default 10)
+     * @param pbkdf2Iterations PBKDF2-HMAC-SHA256 iterations
+     */
+    public static PasswordEncoder create(String algorithm, int bcryptStrength, int pbkdf2Iterations) {
+
+        String id = algorithm.toLowerCase();
+        if (!id.equals(BCRYPT) && !id.equals(PBKDF2)) {
+            throw new IllegalArgumentException(
+                    "Unsupported password encoder '" + algorithm + "' (use bcrypt or pbkdf2)");
+        }
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Pbkdf2PasswordEncoder pbkdf2 = new Pbkdf2PasswordEncoder(
+                "", 16, pbkdf2Iterations,
+                Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(id, Map.of(
+                BCRYPT, bcrypt,
+                PBKDF2, pbkdf2
+        ));
+
+        // legacy, unprefixed hashes are all BCrypt
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return encoder;
+    }
+}
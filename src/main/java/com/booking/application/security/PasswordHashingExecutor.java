@@ -0,0 +1,120 @@
+package com.booking.application.security;
+
+import com.booking.application.exceptions.TooManyRequestsException;
+import com.booking.application.metrics.OperationMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Small, bounded pool for password hashing (BCrypt encode / matches).
+ *
+ * Hashing is deliberately CPU-heavy; run on the request threads, a login
+ * burst can use every core and starve booking traffic. Here at most
+ * {@code threads} hashes run at once, a few more wait in the queue, and
+ * anything beyond that is turned away with 429 instead of piling up.
+ *
+ * Not an {@code Executor} bean on purpose (that would replace Boot's
+ * default task executor).
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor pool;
+    private final long timeoutMillis;
+    private final OperationMetrics metrics;
+
+    public PasswordHashingExecutor(
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.hashing.timeout-ms:5000}") long timeoutMillis,
+            OperationMetrics metrics) {
+
+        // 0 → half the cores, at least one: leaves CPU for everything else
+        int size = threads > 0
+                ? threads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(
+                size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.timeoutMillis = timeoutMillis;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs the hashing task on the pool and waits for its result.
+     *
+     * @throws TooManyRequestsException if the queue is full or the task
+     *                                  did not finish within the timeout
+     */
+    public <T> T call(Supplier<T> task) {
+
+        Future<T> future;
+        try {
+            future = pool.submit(task::get);
+        } catch (RejectedExecutionException ex) {
+            throw overloaded("rejected");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            throw overloaded("timeout");
+
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded("interrupted");
+
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    /**
+     * Fire-and-forget background work (e.g. rehashing after login).
+     * Dropped when the pool is saturated; returns whether it was queued.
+     */
+    public boolean tryExecute(Runnable task) {
+        try {
+            pool.execute(task);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    private TooManyRequestsException overloaded(String reason) {
+        metrics.count(OperationMetrics.AUTH_PASSWORD_OVERLOAD, "reason", reason);
+        return new TooManyRequestsException("Server busy, please retry", 1);
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+}
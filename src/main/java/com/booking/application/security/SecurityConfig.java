@@ -1,16 +1,15 @@
 package com.booking.application.security;
 
+import com.booking.application.metrics.OperationMetrics;
 import com.booking.application.security.jwt.JwtAuthenticationEntryPoint;
 import com.booking.application.security.jwt.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -56,6 +55,13 @@ public class SecurityConfig {
                                 "/h2-console/**"
                         ).permitAll()
 
+                        // 📈 Health + Prometheus scrape (keep the port private in prod)
+                        .requestMatchers(
+                                "/actuator/health",
+                                "/actuator/prometheus"
+                        ).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // 🔐 ADMIN APIs
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
@@ -63,6 +69,11 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
 
+                // 🔁 Context saved by the JWT filter on the request:
+                //    ASYNC re-dispatches (streaming responses) are authorized with it
+                .securityContext(context -> context
+                        .securityContextRepository(JwtAuthenticationFilter.CONTEXT_REPOSITORY))
+
                 // ✅ Exception handling
                 .exceptionHandling(ex -> ex
                         .authenticationEntryPoint(entryPoint)     // 401
@@ -82,16 +93,16 @@ public class SecurityConfig {
         return http.build();
     }
 
-    // ✅ Password Encoder
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
-    // ✅ Authentication Manager
+    // ✅ Password Encoder ({id}-prefixed, configurable algorithm + cost, timed)
     @Bean
-    public AuthenticationManager authenticationManager(
-            AuthenticationConfiguration configuration) throws Exception {
-        return configuration.getAuthenticationManager();
+    public PasswordEncoder passwordEncoder(
+            OperationMetrics metrics,
+            @Value("${security.password.encoder:bcrypt}") String algorithm,
+            @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${security.password.pbkdf2.iterations:310000}") int pbkdf2Iterations) {
+
+        return new TimedPasswordEncoder(
+                PasswordEncoders.create(algorithm, bcryptStrength, pbkdf2Iterations),
+                metrics);
     }
 }
@@ -0,0 +1,44 @@
+package com.booking.application.security;
+
+import com.booking.application.metrics.OperationMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Wraps the real encoder and times every hash / verify
+ * ({@code auth.password}, tagged op=encode|matches and outcome).
+ *
+ * BCrypt dominates login and register latency, so this is the
+ * number to watch when tuning the cost factor.
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final OperationMetrics metrics;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, OperationMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        OperationMetrics.Sample sample = metrics.start();
+        String encoded = delegate.encode(rawPassword);
+        metrics.record(sample, OperationMetrics.AUTH_PASSWORD, "success", "op", "encode");
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        OperationMetrics.Sample sample = metrics.start();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        metrics.record(sample, OperationMetrics.AUTH_PASSWORD,
+                matches ? "match" : "mismatch", "op", "matches");
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
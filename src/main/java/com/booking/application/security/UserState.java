@@ -0,0 +1,10 @@
+package com.booking.application.security;
+
+import com.booking.application.enums.Role;
+
+/**
+ * Minimal per-user state needed to trust a JWT without loading the user:
+ * current role and current token version.
+ */
+public record UserState(Role role, int tokenVersion) {
+}
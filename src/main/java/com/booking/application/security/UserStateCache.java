@@ -0,0 +1,51 @@
+package com.booking.application.security;
+
+import com.booking.application.repository.UserRepository;
+import com.booking.application.utils.CacheLoads;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Small, short-lived cache of {@link UserState} keyed by user id.
+ *
+ * Lets the JWT filter check role and token version without a
+ * UserRepository round trip on every request. Entries are evicted
+ * explicitly on revocation; the TTL bounds staleness for changes
+ * made outside the application.
+ */
+@Component
+public class UserStateCache {
+
+    private final UserRepository userRepository;
+    private final AsyncCache<Long, UserState> states;
+
+    public UserStateCache(
+            UserRepository userRepository,
+            @Value("${security.jwt.user-state-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${security.jwt.user-state-cache.max-size:100000}") long maxSize) {
+
+        this.userRepository = userRepository;
+        // loaded on the caller's thread, outside the map lock (virtual-thread friendly)
+        this.states = Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * Current state of the user, or null if the user no longer exists.
+     */
+    public UserState get(Long userId) {
+        return CacheLoads.getOnCallerThread(states, userId,
+                id -> userRepository.findStateById(id).orElse(null));
+    }
+
+    public void evict(Long userId) {
+        states.synchronous().invalidate(userId);
+    }
+}
@@ -1,10 +1,19 @@
 package com.booking.application.security.jwt;
 
+import com.booking.application.entity.User;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.security.CustomUserDetails;
+import com.booking.application.security.UserState;
+import com.booking.application.security.UserStateCache;
+import com.booking.application.tracing.RequestTracer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -17,12 +26,43 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // Authentication is kept on the request, so the ASYNC re-dispatch of a
+    // streaming response (export, slot stream) is authorized with it again
+    public static final SecurityContextRepository CONTEXT_REPOSITORY =
+            new RequestAttributeSecurityContextRepository();
+
+    // Verified bearer token of this request (issuing stream tickets)
+    public static final String VERIFIED_TOKEN_ATTRIBUTE =
+            "com.booking.application.security.jwt.JwtAuthenticationFilter.VERIFIED_TOKEN";
+
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Autowired
-    private JwtTokenProvider jwtTokenProvider;
+    private StreamTicketStore streamTicketStore;
 
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserStateCache userStateCache;
+
+    @Autowired
+    private OperationMetrics metrics;
+
+    @Autowired
+    private RequestTracer tracer;
+
+    // true  → principal built from verified claims (+ cached user state)
+    // false → principal loaded from DB on every request
+    @Value("${security.jwt.stateless:true}")
+    private boolean stateless = true;
+
+    // EventSource cannot send headers → this path may carry a single-use
+    // ?ticket= (never the JWT itself, URLs end up in logs)
+    private static final String SLOT_STREAM_PATH = "/api/slots/stream";
+    private static final String TICKET_PARAM = "ticket";
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
@@ -40,46 +80,128 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String authHeader = request.getHeader("Authorization");
+        // Only the authentication work is timed, not the rest of the chain
+        OperationMetrics.Sample sample = metrics.start();
+        String outcome = authenticate(request, response);
+        metrics.record(sample, OperationMetrics.JWT_FILTER, outcome);
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Populates the security context from the bearer token, or on the
+     * slot stream from a single-use ticket (if any).
+     * Returns the outcome tag for the filter timer.
+     */
+    private String authenticate(HttpServletRequest request, HttpServletResponse response) {
+
+        // ✅ Single verification: signature + expiry checked once per request
+        //    (or skipped entirely on a verified-token cache hit)
+        VerifiedToken verified;
+        String token = bearerToken(request);
+        if (token != null) {
+            verified = verifiedTokenCache.verify(token).orElse(null);
+            if (verified != null) {
+                request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verified);
+            }
+        } else {
+            String ticket = streamTicket(request);
+
+            // ✅ TOKEN HI NAHI → SKIP FILTER
+            if (ticket == null) {
+                return "no_token";
+            }
+            verified = streamTicketStore.redeem(ticket).orElse(null);
+        }
 
-        // ✅ TOKEN HI NAHI → SKIP FILTER
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+        if (verified == null) {
+            // ❌ Invalid token / ticket → skip, let Spring handle
+            return "invalid";
         }
 
-        String token = authHeader.substring(7);
-        String username;
+        String username = verified.subject();
 
-        try {
-            username = jwtTokenProvider.extractEmailFromToken(token);
-        } catch (Exception e) {
-            // ❌ Invalid token → skip, let Spring handle
-            filterChain.doFilter(request, response);
-            return;
+        if (username == null ||
+                SecurityContextHolder.getContext().getAuthentication() != null) {
+            return "skipped";
         }
 
-        if (username != null &&
-                SecurityContextHolder.getContext().getAuthentication() == null) {
+        UserDetails userDetails;
+        try (RequestTracer.Scope ignored = tracer.span(stateless ? "user.state" : "user.load")) {
+            userDetails = stateless
+                    ? userFromToken(verified)
+                    : userDetailsService.loadUserByUsername(username);
+        }
 
-            UserDetails userDetails =
-                    userDetailsService.loadUserByUsername(username);
+        if (userDetails == null) {
+            // user gone or token revoked → stays anonymous
+            return "rejected";
+        }
 
-            if (jwtTokenProvider.validateToken(token)) {
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()
+                );
 
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails,
-                                null,
-                                userDetails.getAuthorities()
-                        );
+        SecurityContextHolder.getContext()
+                .setAuthentication(authToken);
+        CONTEXT_REPOSITORY.saveContext(SecurityContextHolder.getContext(), request, response);
 
-                SecurityContextHolder.getContext()
-                        .setAuthentication(authToken);
-            }
+        return "success";
+    }
+
+    private String bearerToken(HttpServletRequest request) {
+
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
         }
+        return null;
+    }
 
-        filterChain.doFilter(request, response);
+    // Tickets open the slot stream and nothing else
+    private String streamTicket(HttpServletRequest request) {
+
+        if (!SLOT_STREAM_PATH.equals(request.getServletPath())) {
+            return null;
+        }
+        String param = request.getParameter(TICKET_PARAM);
+        return param == null || param.isBlank() ? null : param;
     }
-}
 
+    /**
+     * Builds the principal straight from verified claims.
+     * Role and token version are checked against the cached user state,
+     * so revoked tokens and role changes take effect without a DB lookup.
+     *
+     * Returns null (request stays anonymous) if the user is gone or the
+     * token was revoked.
+     */
+    private UserDetails userFromToken(VerifiedToken verified) {
+
+        Long userId = verified.userId();
+
+        // Tokens issued before stateless mode carry no userId
+        if (userId == null) {
+            return userDetailsService.loadUserByUsername(verified.subject());
+        }
+
+        UserState state = userStateCache.get(userId);
+        if (state == null) {
+            return null;
+        }
+
+        if (verified.tokenVersion() != state.tokenVersion()) {
+            return null;
+        }
+
+        return new CustomUserDetails(User.builder()
+                .id(userId)
+                .email(verified.subject())
+                .role(state.role())
+                .tokenVersion(state.tokenVersion())
+                .build());
+    }
+}
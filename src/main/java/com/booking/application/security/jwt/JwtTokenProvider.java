@@ -2,8 +2,11 @@ package com.booking.application.security.jwt;
 
 import com.booking.application.security.CustomUserDetails;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -12,8 +15,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import java.util.Optional;
 /**
  * 🔐 JWT Utility class
  * Responsible for:
@@ -32,13 +34,21 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpirationInMs;
 
+    // 🔑 Built once at startup – both are immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     /**
-     * Converts secret string into SecretKey
+     * Converts secret string into SecretKey and prepares the parser.
      * Used internally by JWT library for signing & validation
      */
-    private SecretKey getSigningKey() {
+    @PostConstruct
+    void init() {
         byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
 
@@ -56,6 +66,9 @@ public class JwtTokenProvider {
         // Optional but useful
         claims.put("userId", userDetails.getUserId());
 
+        // Token version → lets us revoke tokens without a blacklist
+        claims.put("ver", userDetails.getTokenVersion());
+
         // subject = email (used as username)
         return createToken(claims, userDetails.getUsername());
     }
@@ -72,22 +85,34 @@ public class JwtTokenProvider {
                 .setIssuedAt(new Date())                   // token creation time
                 .setExpiration(new Date(
                         System.currentTimeMillis() + jwtExpirationInMs)) // expiry
-                .signWith(getSigningKey())                 // sign with secret key
+                .signWith(signingKey)                      // sign with secret key
                 .compact();
     }
 
     /**
      * Extracts all claims (payload) from token
+     * Throws JwtException if signature or expiry is invalid
      */
     public Claims getAllClaimsFromToken(String token) {
 
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey()) // same key for validation
-                .build()
-                .parseClaimsJws(token)          // verifies signature
+        return jwtParser
+                .parseClaimsJws(token)          // verifies signature + expiry
                 .getBody();                     // returns payload
     }
 
+    /**
+     * Verifies the token once and returns its claims.
+     * Empty if the token is malformed, tampered or expired.
+     * Use this instead of calling extract* + validateToken separately.
+     */
+    public Optional<Claims> parseVerifiedClaims(String token) {
+        try {
+            return Optional.of(getAllClaimsFromToken(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Extracts email (subject) from JWT
      */
@@ -0,0 +1,80 @@
+package com.booking.application.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Short-lived, single-use tickets for opening the slot stream.
+ *
+ * {@code EventSource} cannot send an Authorization header, so the stream
+ * URL has to carry the credential, and URLs end up in access logs,
+ * proxy logs and browser history. Instead of the 24 h JWT, the URL
+ * carries a random ticket that:
+ * <ul>
+ *     <li>opens {@code /api/slots/stream} only (checked by the filter)</li>
+ *     <li>works once: redeeming removes it</li>
+ *     <li>expires after {@code ttl-seconds} even if unused</li>
+ * </ul>
+ * A ticket stands for the JWT it was issued with, so the usual
+ * revocation / role checks run when it is redeemed.
+ *
+ * In memory, per instance: the stream itself is per instance too.
+ */
+@Component
+public class StreamTicketStore {
+
+    private static final int TICKET_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+    private final Duration ttl;
+    private final Cache<String, VerifiedToken> tickets;
+
+    public StreamTicketStore(
+            @Value("${slots.stream.ticket.ttl-seconds:30}") long ttlSeconds,
+            @Value("${slots.stream.ticket.max-size:10000}") long maxSize) {
+
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.tickets = Caffeine.newBuilder()
+                // cheap maintenance on the calling thread, not ForkJoinPool.commonPool()
+                .executor(Runnable::run)
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * New ticket for the holder of {@code token}.
+     */
+    public String issue(VerifiedToken token) {
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = encoder.encodeToString(bytes);
+        tickets.put(ticket, token);
+        return ticket;
+    }
+
+    /**
+     * Token the ticket was issued for, or empty if the ticket is unknown,
+     * already used, expired, or its JWT has expired meanwhile.
+     */
+    public Optional<VerifiedToken> redeem(String ticket) {
+        VerifiedToken token = tickets.asMap().remove(ticket);
+        if (token == null || token.isExpired()) {
+            return Optional.empty();
+        }
+        return Optional.of(token);
+    }
+
+    public Duration ttl() {
+        return ttl;
+    }
+}
@@ -0,0 +1,30 @@
+package com.booking.application.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * The parts of a verified JWT the authentication filter needs.
+ * userId is null for tokens issued before it became a claim.
+ */
+public record VerifiedToken(String subject,
+                            Long userId,
+                            String role,
+                            int tokenVersion,
+                            Instant expiresAt) {
+
+    public static VerifiedToken from(Claims claims) {
+        Integer version = claims.get("ver", Integer.class);
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("role", String.class),
+                version == null ? 0 : version,
+                claims.getExpiration() == null ? Instant.MAX : claims.getExpiration().toInstant());
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,117 @@
+package com.booking.application.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Optional, size-bounded cache of already verified tokens.
+ *
+ * Clients reuse one bearer token for many calls; a hit skips HMAC
+ * verification and JSON decoding entirely. Entries are keyed by the
+ * SHA-256 digest of the token (raw tokens are never stored) and live
+ * until min(token exp, configured TTL).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(
+            JwtTokenProvider jwtTokenProvider,
+            @Value("${security.jwt.token-cache.enabled:false}") boolean enabled,
+            @Value("${security.jwt.token-cache.max-size:10000}") long maxSize,
+            @Value("${security.jwt.token-cache.ttl-seconds:300}") long ttlSeconds) {
+
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.enabled = enabled;
+
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.tokens = Caffeine.newBuilder()
+                // cheap maintenance on the calling thread, not ForkJoinPool.commonPool()
+                .executor(Runnable::run)
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        Duration untilExp = Duration.between(Instant.now(), token.expiresAt());
+                        return (untilExp.compareTo(ttl) < 0 ? untilExp : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Verified token contents, or empty if the token is invalid / expired.
+     */
+    public Optional<VerifiedToken> verify(String token) {
+
+        if (!enabled) {
+            return jwtTokenProvider.parseVerifiedClaims(token).map(VerifiedToken::from);
+        }
+
+        String key = digest(token);
+
+        VerifiedToken cached = tokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached);
+        }
+
+        Optional<VerifiedToken> verified =
+                jwtTokenProvider.parseVerifiedClaims(token).map(VerifiedToken::from);
+
+        // Only valid tokens are cached; invalid ones are cheap to reject again
+        verified.ifPresent(value -> tokens.put(key, value));
+
+        return verified;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CacheStats stats() {
+        return tokens.stats();
+    }
+
+    public long size() {
+        return tokens.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -8,7 +8,9 @@ public interface AuthService {
 
     void register(RegisterRequest request);
 
-    AuthResponse login(LoginRequest request);
+    AuthResponse login(LoginRequest request, String clientIp);
+
+    void revokeTokens(Long userId);
 
 }
 
@@ -1,12 +1,29 @@
 package com.booking.application.service;
 
+import com.booking.application.dtos.response.BookingDetailsResponse;
 import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.dtos.response.CursorPage;
+import com.booking.application.enums.BookingStatus;
 
+import java.time.LocalDateTime;
 
 
 public interface BookingService {
     BookingResponse bookSlot(Long slotId);
     void cancelBookingByUser(Long bookingId);
     void cancelBookingByAdmin(Long bookingId);
-}
 
+    CursorPage<BookingDetailsResponse> getMyBookings(BookingStatus status,
+                                                     LocalDateTime from,
+                                                     LocalDateTime to,
+                                                     String cursor,
+                                                     int limit);
+
+    CursorPage<BookingDetailsResponse> getBookings(Long userId,
+                                                   Long slotId,
+                                                   BookingStatus status,
+                                                   LocalDateTime from,
+                                                   LocalDateTime to,
+                                                   String cursor,
+                                                   int limit);
+}
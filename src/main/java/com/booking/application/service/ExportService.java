@@ -0,0 +1,11 @@
+package com.booking.application.service;
+
+import com.booking.application.enums.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportService {
+    void exportSlots(ExportFormat format, OutputStream out) throws IOException;
+    void exportBookings(ExportFormat format, OutputStream out) throws IOException;
+}
@@ -1,16 +1,25 @@
 package com.booking.application.service;
 
+import com.booking.application.dtos.request.BulkCreateSlotRequest;
 import com.booking.application.dtos.request.CreateSlotRequest;
+import com.booking.application.dtos.response.CursorPage;
 import com.booking.application.dtos.response.SlotResponse;
 import com.booking.application.entity.Slot;
+import com.booking.application.enums.SlotStatus;
 import com.booking.application.utils.ApiResponse;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 
 public interface SlotService {
     SlotResponse createSlot(CreateSlotRequest request);
-    List<SlotResponse> getAllSlots();
+    List<SlotResponse> createSlots(BulkCreateSlotRequest request);
+    CursorPage<SlotResponse> getSlots(LocalDateTime from,
+                                      LocalDateTime to,
+                                      SlotStatus status,
+                                      String cursor,
+                                      int limit);
 
 }
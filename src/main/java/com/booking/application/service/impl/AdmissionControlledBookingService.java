@@ -0,0 +1,214 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.cache.SlotClaimArbiter;
+import com.booking.application.dtos.response.BookingDetailsResponse;
+import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.dtos.response.CursorPage;
+import com.booking.application.enums.BookingStatus;
+import com.booking.application.exceptions.ServiceUnavailableException;
+import com.booking.application.exceptions.SlotConflictException;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.service.BookingService;
+import com.booking.application.utils.SecurityUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * AdmissionControlledBookingService
+ * ----------------------------------
+ * Front door for bookings. Asks the in-memory {@link SlotClaimArbiter}
+ * first and only lets one request per slot reach the transactional
+ * {@link BookingServiceImpl}; every other request gets "Slot already
+ * booked" (409) without opening a transaction or taking a connection.
+ *
+ * Admitted requests run in their own transaction, or are handed to the
+ * {@link GroupCommitBookingPipeline} when group commit is enabled.
+ *
+ * Not transactional itself: the delegate has committed or rolled back
+ * by the time the claim is settled (and by the time the end-to-end
+ * timers below stop).
+ */
+@Service
+@Primary
+public class AdmissionControlledBookingService implements BookingService {
+
+    private final BookingServiceImpl delegate;
+    private final SlotClaimArbiter arbiter;
+    private final GroupCommitBookingPipeline groupCommit;
+    private final OperationMetrics metrics;
+
+    @Value("${booking.admission.enabled:true}")
+    private boolean enabled = true;
+
+    public AdmissionControlledBookingService(BookingServiceImpl delegate,
+                                             SlotClaimArbiter arbiter,
+                                             GroupCommitBookingPipeline groupCommit,
+                                             OperationMetrics metrics) {
+        this.delegate = delegate;
+        this.arbiter = arbiter;
+        this.groupCommit = groupCommit;
+        this.metrics = metrics;
+    }
+
+    // ================= BOOK SLOT =================
+
+    @Override
+    public BookingResponse bookSlot(Long slotId) {
+
+        OperationMetrics.Sample sample = metrics.start();
+        Throwable failure = null;
+        String stage = "transaction";
+
+        try {
+            if (!enabled) {
+                return book(slotId);
+            }
+
+            // 1️⃣ One in-flight claimant per slot, the rest are rejected here
+            SlotClaimArbiter.Claim claim = arbiter.tryAcquire(slotId);
+            if (claim == null) {
+                stage = "admission";
+                throw new SlotConflictException("Slot already booked");
+            }
+
+            return settle(slotId, claim);
+
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+
+        } finally {
+            // stage=admission → rejected from memory, no transaction opened
+            metrics.record(sample, OperationMetrics.BOOKING_BOOK,
+                    OperationMetrics.outcome(failure), "stage", stage);
+        }
+    }
+
+    private BookingResponse settle(Long slotId, SlotClaimArbiter.Claim claim) {
+
+        // 2️⃣ Transactional path (committed or rolled back when it returns)
+        boolean booked = false;
+        try {
+            BookingResponse response = book(slotId);
+            booked = true;
+            return response;
+
+        } catch (SlotConflictException ex) {
+            // DB says booked (e.g. booked before this node saw it) → remember it
+            booked = true;
+            throw ex;
+
+        } finally {
+            // 3️⃣ Settle the claim; a rollback leaves the slot to the next request
+            if (booked) {
+                arbiter.markBooked(slotId, claim);
+            } else {
+                arbiter.release(slotId, claim);
+            }
+        }
+    }
+
+    // Direct transaction, or the group-commit pipeline when enabled
+    private BookingResponse book(Long slotId) {
+
+        if (!groupCommit.isEnabled()) {
+            return delegate.bookSlot(slotId);
+        }
+
+        CompletableFuture<BookingResponse> result =
+                groupCommit.submit(SecurityUtils.getCurrentUserId(), slotId);
+
+        if (result == null) {
+            // Queue full or pipeline stopped → book in the caller's own transaction
+            return delegate.bookSlot(slotId);
+        }
+
+        return await(result);
+    }
+
+    // Bounded wait for the batch; the request thread never hangs on a stuck worker
+    private BookingResponse await(CompletableFuture<BookingResponse> result) {
+        try {
+            return result.get(groupCommit.getResultTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException | InterruptedException ex) {
+            if (ex instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // Cancelled while still queued → its batch skips it. If its batch
+            // is already committing, the outcome is unknown to this caller.
+            if (result.cancel(false)) {
+                throw new ServiceUnavailableException(
+                        "Booking is taking too long, check your bookings before retrying", 1);
+            }
+            // Completed in the meantime
+            return await(result);
+
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    // ================= CANCEL =================
+    // Arbiter entry is cleared by the AVAILABLE event after commit
+
+    @Override
+    public void cancelBookingByUser(Long bookingId) {
+        timeCancel("user", () -> delegate.cancelBookingByUser(bookingId));
+    }
+
+    @Override
+    public void cancelBookingByAdmin(Long bookingId) {
+        timeCancel("admin", () -> delegate.cancelBookingByAdmin(bookingId));
+    }
+
+    private void timeCancel(String actor, Runnable cancel) {
+        OperationMetrics.Sample sample = metrics.start();
+        Throwable failure = null;
+        try {
+            cancel.run();
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            metrics.record(sample, OperationMetrics.BOOKING_CANCEL,
+                    OperationMetrics.outcome(failure), "actor", actor);
+        }
+    }
+
+    // ================= LIST BOOKINGS =================
+    // Reads bypass admission control
+
+    @Override
+    public CursorPage<BookingDetailsResponse> getMyBookings(BookingStatus status,
+                                                            LocalDateTime from,
+                                                            LocalDateTime to,
+                                                            String cursor,
+                                                            int limit) {
+        return delegate.getMyBookings(status, from, to, cursor, limit);
+    }
+
+    @Override
+    public CursorPage<BookingDetailsResponse> getBookings(Long userId,
+                                                          Long slotId,
+                                                          BookingStatus status,
+                                                          LocalDateTime from,
+                                                          LocalDateTime to,
+                                                          String cursor,
+                                                          int limit) {
+        return delegate.getBookings(userId, slotId, status, from, to, cursor, limit);
+    }
+}
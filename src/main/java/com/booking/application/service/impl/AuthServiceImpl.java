@@ -7,32 +7,63 @@ import com.booking.application.dtos.response.AuthResponse;
 import com.booking.application.entity.User;
 import com.booking.application.enums.Role;
 import com.booking.application.exceptions.CustomException;
+import com.booking.application.exceptions.ResourceNotFoundException;
+import com.booking.application.exceptions.TooManyRequestsException;
 import com.booking.application.exceptions.UserAlreadyExistsException;
+import com.booking.application.metrics.OperationMetrics;
 import com.booking.application.repository.UserRepository;
 import com.booking.application.security.CustomUserDetails;
+import com.booking.application.security.LoginRateLimiter;
+import com.booking.application.security.PasswordHashingExecutor;
+import com.booking.application.security.UserStateCache;
 import com.booking.application.security.jwt.JwtTokenProvider;
 import com.booking.application.service.AuthService;
+import com.booking.application.utils.TransactionUtils;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 public class AuthServiceImpl implements AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationManager authenticationManager;
+    private final UserStateCache userStateCache;
+    private final OperationMetrics metrics;
+    private final LoginRateLimiter loginRateLimiter;
+    private final PasswordHashingExecutor hashingExecutor;
+
+    // Checked when the email is unknown, so a miss costs the same
+    // BCrypt time as a hit (response time doesn't reveal accounts)
+    private volatile String dummyHash;
 
 
     // ================= REGISTER =================
     @Override
     public void register(RegisterRequest request) {
 
+        OperationMetrics.Sample sample = metrics.start();
+        Throwable failure = null;
+        try {
+            createUser(request);
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            metrics.record(sample, OperationMetrics.AUTH_REGISTER,
+                    OperationMetrics.outcome(failure));
+        }
+    }
+
+    private void createUser(RegisterRequest request) {
+
         if (userRepository.existsByEmail(request.getEmail().toLowerCase())) {
             throw new CustomException("User already exists with this email");
         }
@@ -40,7 +71,7 @@ public class AuthServiceImpl implements AuthService {
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail().toLowerCase())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(hashingExecutor.call(() -> passwordEncoder.encode(request.getPassword())))
                 .role(Role.ROLE_USER)
                 .build();
 
@@ -49,17 +80,67 @@ public class AuthServiceImpl implements AuthService {
 
     // ================= LOGIN =================
     @Override
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
+
+        // BCrypt itself is timed separately (auth.password, op=matches)
+        OperationMetrics.Sample sample = metrics.start();
+        Throwable failure = null;
+        try {
+            return authenticate(request, clientIp);
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            metrics.record(sample, OperationMetrics.AUTH_LOGIN,
+                    OperationMetrics.outcome(failure));
+        }
+    }
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail().toLowerCase(),
-                        request.getPassword()
-                )
-        );
+    /**
+     * Direct credential check instead of the AuthenticationManager chain:
+     * 1. Throttle per IP / email (before any DB or BCrypt work)
+     * 2. One user lookup by email
+     * 3. BCrypt on the bounded hashing pool
+     * 4. Rehash in the background if the stored hash is outdated
+     * 5. Issue the token from the loaded user
+     */
+    private AuthResponse authenticate(LoginRequest request, String clientIp) {
+
+        String email = request.getEmail().toLowerCase();
+
+        // ================= STEP 1 =================
+        try {
+            loginRateLimiter.acquire(email, clientIp);
+        } catch (TooManyRequestsException ex) {
+            metrics.count(OperationMetrics.AUTH_LOGIN_ATTEMPTS, "result", "throttled");
+            throw ex;
+        }
+
+        // ================= STEP 2 =================
+        User user = userRepository.findByEmail(email).orElse(null);
+
+        // ================= STEP 3 =================
+        String hash = user != null ? user.getPassword() : dummyHash();
+        boolean matches = hashingExecutor.call(
+                () -> passwordEncoder.matches(request.getPassword(), hash));
+
+        if (user == null || !matches) {
+            metrics.count(OperationMetrics.AUTH_LOGIN_ATTEMPTS, "result", "rejected");
+            throw new BadCredentialsException("Invalid email or password");
+        }
 
-        CustomUserDetails userDetails =
-                (CustomUserDetails) authentication.getPrincipal();
+        metrics.count(OperationMetrics.AUTH_LOGIN_ATTEMPTS, "result", "verified");
+        loginRateLimiter.onSuccess(email);
+
+        // ================= STEP 4 =================
+        // Old algorithm, lower cost or no {id} prefix → upgrade while we
+        // have the raw password; the login itself doesn't wait for it
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehash(user.getId(), user.getPassword(), request.getPassword());
+        }
+
+        // ================= STEP 5 =================
+        CustomUserDetails userDetails = new CustomUserDetails(user);
 
         String token = jwtTokenProvider.generateToken(userDetails);
 
@@ -69,7 +150,47 @@ public class AuthServiceImpl implements AuthService {
                 userDetails.getRole()
         );
     }
-}
 
+    private void rehash(Long userId, String oldHash, String rawPassword) {
+
+        boolean queued = hashingExecutor.tryExecute(() -> {
+            try {
+                String newHash = passwordEncoder.encode(rawPassword);
+                int updated = userRepository.updatePasswordHash(userId, oldHash, newHash);
+                metrics.count(OperationMetrics.AUTH_PASSWORD_REHASH,
+                        "result", updated == 1 ? "upgraded" : "stale");
+            } catch (RuntimeException ex) {
+                // next login tries again
+                log.warn("Password rehash failed for user {}", userId, ex);
+                metrics.count(OperationMetrics.AUTH_PASSWORD_REHASH, "result", "failed");
+            }
+        });
+
+        if (!queued) {
+            metrics.count(OperationMetrics.AUTH_PASSWORD_REHASH, "result", "deferred");
+        }
+    }
+
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            // racing first misses each compute one; any of them is fine
+            hash = hashingExecutor.call(() -> passwordEncoder.encode("not-a-real-password"));
+            dummyHash = hash;
+        }
+        return hash;
+    }
 
+    // ================= REVOKE TOKENS =================
+    @Override
+    @Transactional
+    public void revokeTokens(Long userId) {
 
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        // Stateless filter must see the new version immediately
+        TransactionUtils.afterCommit(() -> userStateCache.evict(userId));
+    }
+}
@@ -1,37 +1,83 @@
 package com.booking.application.service.impl;
 
+import com.booking.application.dtos.response.BookingDetailsResponse;
 import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.dtos.response.CursorPage;
 import com.booking.application.entity.Booking;
 import com.booking.application.entity.Slot;
 import com.booking.application.entity.User;
+import com.booking.application.enums.BookingLockStrategy;
 import com.booking.application.enums.BookingStatus;
+import com.booking.application.enums.OutboxEventType;
 import com.booking.application.enums.SlotStatus;
+import com.booking.application.events.SlotStatusChangedEvent;
 import com.booking.application.exceptions.CustomException;
+import com.booking.application.exceptions.SlotConflictException;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.outbox.BookingEventPayload;
+import com.booking.application.outbox.OutboxWriter;
+import com.booking.application.repository.BookingCancelTarget;
 import com.booking.application.repository.BookingRepository;
 import com.booking.application.repository.SlotRepository;
 import com.booking.application.repository.UserRepository;
 import com.booking.application.service.BookingService;
+import com.booking.application.utils.KeysetCursor;
 import com.booking.application.utils.SecurityUtils;
 import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class BookingServiceImpl implements BookingService {
 
+    private static final Logger log = LoggerFactory.getLogger(BookingServiceImpl.class);
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    // Bounds of a listing without 'from' / 'to' or cursor, so the keyset
+    // range is always bound
+    private static final LocalDateTime START_OF_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final SlotRepository slotRepository;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OperationMetrics metrics;
+    private final OutboxWriter outboxWriter;
+
+    // PESSIMISTIC (default) or CONDITIONAL_UPDATE
+    @Value("${booking.lock-strategy:PESSIMISTIC}")
+    private BookingLockStrategy lockStrategy = BookingLockStrategy.PESSIMISTIC;
 
     public BookingServiceImpl(
             SlotRepository slotRepository,
             BookingRepository bookingRepository,
-            UserRepository userRepository
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            OperationMetrics metrics,
+            OutboxWriter outboxWriter
     ) {
         this.slotRepository = slotRepository;
         this.bookingRepository = bookingRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.outboxWriter = outboxWriter;
     }
 
 
@@ -43,21 +89,17 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     public BookingResponse bookSlot(Long slotId) {
 
-        // 1️⃣ Lock slot row (race condition prevention)
-        Slot slot = slotRepository.findByIdForUpdate(slotId)
-                .orElseThrow(() -> new CustomException("Slot not found"));
+        metrics.timeTransaction("booking.book");
 
-        // 2️⃣ Check availability
-        if (slot.getStatus() == SlotStatus.BOOKED) {
-            throw new CustomException("Slot already booked");
-        }
+        // 1️⃣ Get logged-in user from JWT principal
+        //    Reference only → no SELECT, just the FK for the insert
+        Long userId = SecurityUtils.getCurrentUserId();
+        User user = userRepository.getReferenceById(userId);
 
-        // 3️⃣ Get logged-in user from JWT
-        String email = SecurityUtils.getCurrentUserEmail();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException("User not found"));
+        // 2️⃣ Claim the slot (AVAILABLE → BOOKED) with the configured strategy
+        Slot slot = acquireSlot(slotId);
 
-        // 4️⃣ Create booking
+        // 3️⃣ Create booking
         Booking booking = Booking.builder()
                 .slot(slot)
                 .user(user)
@@ -67,13 +109,146 @@ public class BookingServiceImpl implements BookingService {
 
         bookingRepository.save(booking);
 
-        // 5️⃣ Update slot status
-        slot.setStatus(SlotStatus.BOOKED);
+        // 4️⃣ Notify listeners (e.g. availability cache) after commit
+        eventPublisher.publishEvent(
+                new SlotStatusChangedEvent(slot.getId(), SlotStatus.BOOKED));
+
+        // 5️⃣ Side effects (mail, audit) → outbox rows in THIS transaction,
+        //    delivered by the dispatcher after commit, outside the slot lock
+        outboxWriter.append(OutboxEventType.BOOKING_CONFIRMED, booking.getId(),
+                new BookingEventPayload(booking.getId(), slot.getId(), userId));
 
         // 6️⃣ Response
+        return toResponse(booking, slot.getId());
+    }
+
+
+
+
+    // Lock-wait timer around the configured strategy, tagged by outcome
+    private Slot acquireSlot(Long slotId) {
+        OperationMetrics.Sample sample = metrics.start();
+        Throwable failure = null;
+        try {
+            return lockStrategy == BookingLockStrategy.CONDITIONAL_UPDATE
+                    ? claimSlot(slotId)
+                    : lockSlot(slotId);
+        } catch (RuntimeException ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            metrics.record(sample, OperationMetrics.BOOKING_LOCK_WAIT,
+                    OperationMetrics.outcome(failure),
+                    "strategy", lockStrategy.name());
+        }
+    }
+
+    // PESSIMISTIC: lock the row, check, flip status
+    // Taken as late as possible: the locked window covers only
+    // the status check and the two writes
+    private Slot lockSlot(Long slotId) {
+        Slot slot = slotRepository.findByIdForUpdate(slotId)
+                .orElseThrow(() -> new CustomException("Slot not found"));
+
+        if (slot.getStatus() == SlotStatus.BOOKED) {
+            throw new SlotConflictException("Slot already booked");
+        }
+
+        slot.setStatus(SlotStatus.BOOKED);
+        return slot;
+    }
+
+    // CONDITIONAL_UPDATE: one guarded UPDATE, no SELECT ... FOR UPDATE
+    // A concurrent loser still waits for the winner's row lock (until it
+    // commits), then sees 0 updated rows; it saves the locking SELECT and
+    // the re-check, not the wait
+    private Slot claimSlot(Long slotId) {
+        if (slotRepository.claimIfAvailable(slotId) == 0) {
+            if (!slotRepository.existsById(slotId)) {
+                throw new CustomException("Slot not found");
+            }
+            throw new SlotConflictException("Slot already booked");
+        }
+
+        // Status already BOOKED in the DB → reference is enough for the FK
+        return slotRepository.getReferenceById(slotId);
+    }
+
+
+
+
+    // ================= BOOK BATCH (group commit) =================
+
+    public record BatchItem(Long userId, Long slotId) {}
+
+    // exactly one of response / error is set
+    public record BatchOutcome(BookingResponse response, RuntimeException error) {}
+
+    /**
+     * Settles many booking requests in ONE transaction.
+     * Outcomes are returned in request order; a losing or invalid request
+     * only fails itself, not the batch.
+     */
+    @Transactional
+    public List<BatchOutcome> bookBatch(List<BatchItem> items) {
+
+        metrics.timeTransaction("booking.batch");
+
+        // 1️⃣ Lock every slot of the batch with one statement (id order → no deadlocks)
+        Set<Long> slotIds = items.stream()
+                .map(BatchItem::slotId)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        OperationMetrics.Sample lockWait = metrics.start();
+        Map<Long, Slot> slots = slotRepository.findAllByIdForUpdate(slotIds).stream()
+                .collect(Collectors.toMap(Slot::getId, Function.identity()));
+        metrics.record(lockWait, OperationMetrics.BOOKING_LOCK_WAIT,
+                OperationMetrics.outcome(null), "strategy", "BATCH");
+
+        // 2️⃣ Settle in arrival order → first request per slot wins
+        LocalDateTime now = LocalDateTime.now();
+        List<BatchOutcome> outcomes = new ArrayList<>(items.size());
+
+        for (BatchItem item : items) {
+            Slot slot = slots.get(item.slotId());
+
+            if (slot == null) {
+                outcomes.add(new BatchOutcome(null, new CustomException("Slot not found")));
+                continue;
+            }
+            if (slot.getStatus() == SlotStatus.BOOKED) {
+                outcomes.add(new BatchOutcome(null, new SlotConflictException("Slot already booked")));
+                continue;
+            }
+
+            slot.setStatus(SlotStatus.BOOKED);
+
+            Booking booking = Booking.builder()
+                    .slot(slot)
+                    .user(userRepository.getReferenceById(item.userId()))
+                    .status(BookingStatus.ACTIVE)
+                    .createdAt(now)
+                    .build();
+
+            // id from the pooled sequence now, INSERT/UPDATE sent as JDBC batches at flush
+            bookingRepository.save(booking);
+
+            eventPublisher.publishEvent(
+                    new SlotStatusChangedEvent(slot.getId(), SlotStatus.BOOKED));
+
+            outboxWriter.append(OutboxEventType.BOOKING_CONFIRMED, booking.getId(),
+                    new BookingEventPayload(booking.getId(), slot.getId(), item.userId()));
+
+            outcomes.add(new BatchOutcome(toResponse(booking, slot.getId()), null));
+        }
+
+        return outcomes;
+    }
+
+    private BookingResponse toResponse(Booking booking, Long slotId) {
         return BookingResponse.builder()
                 .bookingId(booking.getId())
-                .slotId(slot.getId())
+                .slotId(slotId)
                 .status(booking.getStatus().name())
                 .createdAt(booking.getCreatedAt())
                 .build();
@@ -87,16 +262,17 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     public void cancelBookingByUser(Long bookingId) {
 
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new CustomException("Booking not found"));
+        metrics.timeTransaction("booking.cancel");
 
-        String email = SecurityUtils.getCurrentUserEmail();
+        // 1️⃣ FK columns only → no user or slot SELECT
+        BookingCancelTarget target = findCancelTarget(bookingId);
 
-        if (!booking.getUser().getEmail().equals(email)) {
+        // 2️⃣ Ownership from the JWT principal, compared by id
+        if (!target.userId().equals(SecurityUtils.getCurrentUserId())) {
             throw new CustomException("You can cancel only your own booking");
         }
 
-        cancelBooking(booking);
+        cancelBooking(target, OutboxEventType.BOOKING_CANCELED);
     }
 
     // ================= ADMIN CANCEL =================
@@ -104,17 +280,143 @@ public class BookingServiceImpl implements BookingService {
     @Transactional
     public void cancelBookingByAdmin(Long bookingId) {
 
-        Booking booking = bookingRepository.findById(bookingId)
+        metrics.timeTransaction("booking.cancel");
+
+        BookingCancelTarget target = findCancelTarget(bookingId);
+
+        // owner gets a notice mail (outbox)
+        cancelBooking(target, OutboxEventType.BOOKING_CANCELED_BY_ADMIN);
+    }
+
+    private BookingCancelTarget findCancelTarget(Long bookingId) {
+
+        BookingCancelTarget target = bookingRepository.findCancelTarget(bookingId)
                 .orElseThrow(() -> new CustomException("Booking not found"));
 
-        cancelBooking(booking);
+        if (target.status() != BookingStatus.ACTIVE) {
+            throw new CustomException("Booking already cancelled");
+        }
+        return target;
     }
 
     // ================= COMMON CANCEL LOGIC =================
-    private void cancelBooking(Booking booking) {
+    private void cancelBooking(BookingCancelTarget target, OutboxEventType eventType) {
+
+        // 3️⃣ Guarded update: of two concurrent cancels only one sees ACTIVE,
+        //    the other gets 0 rows and must not touch the slot (may be rebooked by now)
+        if (bookingRepository.cancelIfActive(target.bookingId(), target.userId()) == 0) {
+            throw new CustomException("Booking already cancelled");
+        }
 
-        booking.setStatus(BookingStatus.CANCELED);
-        booking.getSlot().setStatus(SlotStatus.AVAILABLE);
+        // 4️⃣ Free the slot (BOOKED → AVAILABLE) without loading it; only a
+        //    slot that actually changed is announced (cache, arbiter, stream)
+        if (slotRepository.releaseIfBooked(target.slotId()) == 1) {
+            eventPublisher.publishEvent(
+                    new SlotStatusChangedEvent(target.slotId(), SlotStatus.AVAILABLE));
+        } else {
+            // an ACTIVE booking on a slot that isn't BOOKED → data is off, leave the slot
+            log.warn("Booking {} cancelled but slot {} was not BOOKED; slot left unchanged",
+                    target.bookingId(), target.slotId());
+        }
+
+        outboxWriter.append(eventType, target.bookingId(),
+                new BookingEventPayload(target.bookingId(), target.slotId(), target.userId()));
+    }
+
+    // ================= LIST BOOKINGS =================
+
+    /**
+     * Caller's own bookings, newest first, keyset paginated on (createdAt, id).
+     * One query per page: booking + slot via a constructor expression.
+     */
+    @Override
+    public CursorPage<BookingDetailsResponse> getMyBookings(BookingStatus status,
+                                                            LocalDateTime from,
+                                                            LocalDateTime to,
+                                                            String cursor,
+                                                            int limit) {
+
+        KeysetCursor before = startCursor(from, to, cursor, limit);
+
+        List<BookingDetailsResponse> rows = bookingRepository.findPageForUser(
+                SecurityUtils.getCurrentUserId(),
+                status,
+                lowerBound(from),
+                before.time(),
+                before.id(),
+                PageRequest.of(0, limit + 1));
+
+        return toPage(rows, limit);
+    }
+
+    /**
+     * All bookings for admins, optionally filtered by user, slot, status
+     * and creation time; same ordering and cursor as {@link #getMyBookings}.
+     */
+    @Override
+    public CursorPage<BookingDetailsResponse> getBookings(Long userId,
+                                                          Long slotId,
+                                                          BookingStatus status,
+                                                          LocalDateTime from,
+                                                          LocalDateTime to,
+                                                          String cursor,
+                                                          int limit) {
+
+        KeysetCursor before = startCursor(from, to, cursor, limit);
+
+        LocalDateTime lower = lowerBound(from);
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        // One query per filter, each seeking into its own index
+        List<BookingDetailsResponse> rows;
+        if (slotId != null) {
+            rows = bookingRepository.findPageForSlot(
+                    slotId, userId, status, lower, before.time(), before.id(), page);
+        } else if (userId != null) {
+            rows = bookingRepository.findPageForUserWithOwner(
+                    userId, status, lower, before.time(), before.id(), page);
+        } else {
+            rows = bookingRepository.findPage(
+                    status, lower, before.time(), before.id(), page);
+        }
+
+        return toPage(rows, limit);
+    }
+
+    // Validates the filters; no cursor → start just after 'to' (every id is > 0)
+    private static KeysetCursor startCursor(LocalDateTime from,
+                                            LocalDateTime to,
+                                            String cursor,
+                                            int limit) {
+
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new CustomException("'from' must be before 'to'");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        return cursor != null
+                ? KeysetCursor.decode(cursor)
+                : new KeysetCursor(to != null ? to : END_OF_TIME, 0L);
+    }
+
+    private static LocalDateTime lowerBound(LocalDateTime from) {
+        return from != null ? from : START_OF_TIME;
     }
 
+    // limit + 1 rows were fetched → the extra one means another page exists
+    private static CursorPage<BookingDetailsResponse> toPage(List<BookingDetailsResponse> rows,
+                                                             int limit) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<BookingDetailsResponse> page = rows.subList(0, limit);
+        BookingDetailsResponse last = page.get(limit - 1);
+
+        return new CursorPage<>(
+                page,
+                new KeysetCursor(last.getCreatedAt(), last.getBookingId()).encode());
+    }
 }
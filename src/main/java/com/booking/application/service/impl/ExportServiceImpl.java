@@ -0,0 +1,153 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.dtos.response.BookingExportRow;
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.enums.ExportFormat;
+import com.booking.application.repository.BookingRepository;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.service.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * ExportServiceImpl
+ * ------------------
+ * Streams full slot / booking tables for reporting.
+ * Rows are read from a read-only JPA stream and written straight to the
+ * output, so heap usage stays flat no matter how many rows exist.
+ *
+ * Unlike the other services this uses Spring's @Transactional:
+ * jakarta.transaction.Transactional has no readOnly, and readOnly is what
+ * puts the Hibernate session in read-only mode (no dirty-check snapshots,
+ * no flush) for the length of the stream.
+ */
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    // Clear the persistence context every N rows
+    private static final int CLEAR_EVERY = 1_000;
+
+    private static final String[] SLOT_COLUMNS =
+            {"id", "startTime", "endTime", "status"};
+
+    private static final String[] BOOKING_COLUMNS =
+            {"bookingId", "status", "createdAt", "slotId",
+                    "slotStartTime", "slotEndTime", "userId", "userEmail"};
+
+    private final SlotRepository slotRepository;
+    private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ExportServiceImpl(SlotRepository slotRepository,
+                             BookingRepository bookingRepository,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper) {
+        this.slotRepository = slotRepository;
+        this.bookingRepository = bookingRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportSlots(ExportFormat format, OutputStream out) throws IOException {
+
+        try (Stream<SlotResponse> rows = slotRepository.streamAllForExport()) {
+            write(rows, format, SLOT_COLUMNS, slot -> new Object[]{
+                    slot.getId(),
+                    slot.getStartTime(),
+                    slot.getEndTime(),
+                    slot.getStatus()
+            }, out);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportBookings(ExportFormat format, OutputStream out) throws IOException {
+
+        try (Stream<BookingExportRow> rows = bookingRepository.streamAllForExport()) {
+            write(rows, format, BOOKING_COLUMNS, row -> new Object[]{
+                    row.getBookingId(),
+                    row.getStatus(),
+                    row.getCreatedAt(),
+                    row.getSlotId(),
+                    row.getSlotStartTime(),
+                    row.getSlotEndTime(),
+                    row.getUserId(),
+                    row.getUserEmail()
+            }, out);
+        }
+    }
+
+    // ================= WRITERS =================
+
+    private <T> void write(Stream<T> rows,
+                           ExportFormat format,
+                           String[] header,
+                           Function<T, Object[]> columns,
+                           OutputStream out) throws IOException {
+
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, header);
+        }
+
+        int count = 0;
+        Iterator<T> iterator = rows.iterator();
+
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, columns.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+
+            if (++count % CLEAR_EVERY == 0) {
+                entityManager.clear();
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvEscape(values[i]));
+        }
+        writer.write('\n');
+    }
+
+    private String csvEscape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0
+                && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
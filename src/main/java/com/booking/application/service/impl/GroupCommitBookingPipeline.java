@@ -0,0 +1,206 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.service.impl.BookingServiceImpl.BatchItem;
+import com.booking.application.service.impl.BookingServiceImpl.BatchOutcome;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Group-commit pipeline for bookings (optional).
+ *
+ * Requests are queued and a single worker settles them in batches of
+ * up to max-batch, waiting at most max-wait for a batch to fill. Each
+ * batch is one transaction: one locking SELECT for all slots, batched
+ * INSERTs into bookings and batched UPDATEs on slots.
+ *
+ * Every caller gets its own future, completed only after the batch
+ * has committed. If a batch fails as a whole, its requests are retried
+ * one by one so a single bad request cannot fail its neighbours.
+ *
+ * Callers wait at most {@link #getResultTimeout()} (max-wait plus
+ * transaction-budget-ms). A request whose caller gave up before its
+ * batch started is dropped from the batch.
+ */
+@Component
+public class GroupCommitBookingPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitBookingPipeline.class);
+
+    private record Pending(BatchItem item, CompletableFuture<BookingResponse> result) {}
+
+    private final BookingServiceImpl bookingService;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxWaitNanos;
+    private final Duration resultTimeout;
+    private final BlockingQueue<Pending> queue;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public GroupCommitBookingPipeline(
+            BookingServiceImpl bookingService,
+            @Value("${booking.group-commit.enabled:false}") boolean enabled,
+            @Value("${booking.group-commit.max-batch:64}") int maxBatch,
+            @Value("${booking.group-commit.max-wait-ms:5}") long maxWaitMs,
+            @Value("${booking.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${booking.group-commit.transaction-budget-ms:5000}") long transactionBudgetMs) {
+
+        this.bookingService = bookingService;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.maxWaitNanos = Duration.ofMillis(maxWaitMs).toNanos();
+        this.resultTimeout = Duration.ofMillis(maxWaitMs + transactionBudgetMs);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // ================= LIFECYCLE =================
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::drainLoop, "booking-group-commit");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // How long a caller waits for its future before giving up
+    public Duration getResultTimeout() {
+        return resultTimeout;
+    }
+
+    // ================= SUBMIT =================
+
+    /**
+     * Queues one booking request.
+     *
+     * @return future completed after commit, or null when the queue is
+     *         full or the worker is not running (caller should book
+     *         directly)
+     */
+    public CompletableFuture<BookingResponse> submit(Long userId, Long slotId) {
+        if (!running) {
+            return null;
+        }
+        Pending pending = new Pending(new BatchItem(userId, slotId), new CompletableFuture<>());
+        if (!queue.offer(pending)) {
+            return null;
+        }
+        // Stopped meanwhile → take it back unless the final drain already failed it
+        if (!running && queue.remove(pending)) {
+            return null;
+        }
+        return pending.result();
+    }
+
+    // ================= WORKER =================
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(maxBatch);
+
+        while (running) {
+            try {
+                // 1️⃣ Block for the first request, then fill until max-batch or max-wait
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxWaitNanos;
+
+                while (batch.size() < maxBatch) {
+                    if (queue.drainTo(batch, maxBatch - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // 2️⃣ Drop callers that gave up, one transaction for the rest
+                batch.removeIf(p -> p.result().isDone());
+                if (!batch.isEmpty()) {
+                    settle(batch);
+                }
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                failAll(batch);
+            } catch (Throwable t) {
+                // Fail this batch only; the worker keeps serving the queue
+                log.error("Group commit worker failed on a batch of {} bookings", batch.size(), t);
+                batch.forEach(p -> p.result().completeExceptionally(t));
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // Shutting down → fail whatever is still queued
+        queue.drainTo(batch);
+        failAll(batch);
+    }
+
+    private void failAll(List<Pending> pending) {
+        pending.forEach(p -> p.result().completeExceptionally(
+                new IllegalStateException("Booking pipeline stopped")));
+    }
+
+    private void settle(List<Pending> batch) {
+        try {
+            List<BatchOutcome> outcomes = bookingService.bookBatch(
+                    batch.stream().map(Pending::item).toList());
+
+            // 3️⃣ Committed → hand every caller its own result
+            for (int i = 0; i < batch.size(); i++) {
+                BatchOutcome outcome = outcomes.get(i);
+                if (outcome.error() != null) {
+                    batch.get(i).result().completeExceptionally(outcome.error());
+                } else {
+                    batch.get(i).result().complete(outcome.response());
+                }
+            }
+
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(ex);
+                return;
+            }
+            // Whole batch rolled back → isolate the bad request
+            log.warn("Group commit of {} bookings failed, retrying one by one: {}",
+                    batch.size(), ex.getMessage());
+            for (Pending pending : batch) {
+                settle(List.of(pending));
+            }
+        }
+    }
+}
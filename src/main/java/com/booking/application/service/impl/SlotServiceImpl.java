@@ -1,15 +1,37 @@
 package com.booking.application.service.impl;
 
+import com.booking.application.cache.SlotAvailabilityCache;
+import com.booking.application.cache.SlotInterval;
+import com.booking.application.cache.SlotIntervalIndex;
+import com.booking.application.dtos.request.BulkCreateSlotRequest;
 import com.booking.application.dtos.request.CreateSlotRequest;
+import com.booking.application.dtos.request.SlotRecurrenceRule;
+import com.booking.application.dtos.response.CursorPage;
 import com.booking.application.dtos.response.SlotResponse;
 import com.booking.application.entity.Slot;
 import com.booking.application.enums.SlotStatus;
+import com.booking.application.events.SlotsCreatedEvent;
 import com.booking.application.exceptions.CustomException;
+import com.booking.application.metrics.OperationMetrics;
 import com.booking.application.repository.SlotRepository;
 import com.booking.application.service.SlotService;
+import com.booking.application.utils.KeysetCursor;
+import com.booking.application.utils.TransactionUtils;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 /**
  * SlotServiceImpl
@@ -20,71 +42,330 @@ import java.util.List;
 @Service
 public class SlotServiceImpl implements SlotService {
 
+    // Upper bound for a single bulk request (≈ a quarter of 15-minute slots)
+    private static final int MAX_BULK_SLOTS = 10_000;
+
+    // Listing defaults: the calendar shows one week at a time
+    private static final Duration DEFAULT_WINDOW = Duration.ofDays(7);
+    private static final Duration MAX_WINDOW = Duration.ofDays(31);
+    private static final int MAX_PAGE_SIZE = 500;
+
     // Repository to interact with Slot table
     private final SlotRepository slotRepository;
 
+    // In-memory interval index used for duplicate / overlap checks
+    private final SlotIntervalIndex slotIntervalIndex;
+
+    // Per-day availability cache used by the listing
+    private final SlotAvailabilityCache slotAvailabilityCache;
+
+    // Notifies cache (and other listeners) after commit
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Overlap-check + transaction timers
+    private final OperationMetrics metrics;
+
+    @Value("${slots.cache.enabled:true}")
+    private boolean cacheEnabled = true;
+
     // Constructor Injection (recommended in industry)
-    public SlotServiceImpl(SlotRepository slotRepository) {
+    public SlotServiceImpl(SlotRepository slotRepository,
+                           SlotIntervalIndex slotIntervalIndex,
+                           SlotAvailabilityCache slotAvailabilityCache,
+                           ApplicationEventPublisher eventPublisher,
+                           OperationMetrics metrics) {
         this.slotRepository = slotRepository;
+        this.slotIntervalIndex = slotIntervalIndex;
+        this.slotAvailabilityCache = slotAvailabilityCache;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
     }
 
     /**
      * Creates a new slot.
      * Steps followed:
      * 1. Validate input time
-     * 2. Check exact duplicate slot
-     * 3. Check overlapping slot
-     * 4. Save slot with AVAILABLE status
+     * 2. Reserve the interval in the in-memory index
+     *    (exact duplicate + overlap check in O(log n))
+     * 3. Re-check against the database and save slot with AVAILABLE status
+     * 4. Confirm / release the reservation once the transaction completes
      * 5. Convert Entity → Response DTO
      */
     @Override
+    @Transactional
     public SlotResponse createSlot(CreateSlotRequest request) {
 
+        metrics.timeTransaction("slot.create");
+
+        LocalDateTime startTime = request.getStartTime();
+        LocalDateTime endTime = request.getEndTime();
+
         // ================= STEP 1 =================
         // Validate start & end time
         // Business rule: start time must be before end time
-        if (request.getStartTime().isAfter(request.getEndTime())) {
+        if (!startTime.isBefore(endTime)) {
             throw new CustomException("Start time must be before end time");
         }
 
         // ================= STEP 2 =================
-        // Check if an exact same slot already exists
-        // Example: 10:00–11:00 already present
-        if (slotRepository.existsByStartTimeAndEndTime(
-                request.getStartTime(),
-                request.getEndTime())) {
-
-            throw new CustomException("Slot already exists for the given time");
-        }
-
-        // ================= STEP 3 =================
-        // Check overlapping slots
+        // Check duplicates & overlaps against the interval index
         // Example:
         // Existing: 10:00–11:00
+        // New:      10:00–11:00  ❌ duplicate
         // New:      10:30–11:30  ❌ overlap
-        if (slotRepository.existsOverlappingSlot(
-                request.getStartTime(),
-                request.getEndTime())) {
+        OperationMetrics.Sample overlapCheck = metrics.start();
+        SlotIntervalIndex.Conflict conflict =
+                slotIntervalIndex.reserve(startTime, endTime);
+        metrics.record(overlapCheck, OperationMetrics.SLOT_OVERLAP_CHECK,
+                conflict == SlotIntervalIndex.Conflict.NONE ? "clear" : conflict.name().toLowerCase(),
+                "mode", "single");
 
+        if (conflict == SlotIntervalIndex.Conflict.DUPLICATE) {
+            throw new CustomException("Slot already exists for the given time");
+        }
+        if (conflict == SlotIntervalIndex.Conflict.OVERLAP) {
             throw new CustomException("Slot time overlaps with existing slot");
         }
 
-        // ================= STEP 4 =================
+        // ================= STEP 3 =================
         // Create Slot entity
         // ADMIN does not send status → system decides
         // New slot is always AVAILABLE
         Slot slot = Slot.builder()
-                .startTime(request.getStartTime())
-                .endTime(request.getEndTime())
+                .startTime(startTime)
+                .endTime(endTime)
                 .status(SlotStatus.AVAILABLE)
                 .build();
 
-        // Save slot to database
-        Slot savedSlot = slotRepository.save(slot);
+        Slot savedSlot;
+        try {
+            // The index only knows this instance's writes: re-check the
+            // stored slots inside the insert transaction
+            SlotIntervalIndex.Conflict stored = findStoredConflict(startTime, endTime);
+            if (stored == SlotIntervalIndex.Conflict.DUPLICATE) {
+                throw new CustomException("Slot already exists for the given time");
+            }
+            if (stored == SlotIntervalIndex.Conflict.OVERLAP) {
+                throw new CustomException("Slot time overlaps with existing slot");
+            }
+
+            savedSlot = slotRepository.save(slot);
+        } catch (RuntimeException e) {
+            slotIntervalIndex.release(startTime);
+            throw e;
+        }
+
+        // ================= STEP 4 =================
+        // Keep the reservation only if the insert commits
+        TransactionUtils.onCompletion(
+                () -> slotIntervalIndex.confirm(savedSlot.getId(), startTime, endTime),
+                () -> slotIntervalIndex.release(startTime)
+        );
 
         // ================= STEP 5 =================
         // Convert Entity → DTO and return response
-        return mapToResponse(savedSlot);
+        SlotResponse response = mapToResponse(savedSlot);
+
+        eventPublisher.publishEvent(new SlotsCreatedEvent(List.of(response)));
+
+        return response;
+    }
+
+    /**
+     * Creates many slots in one call.
+     * Steps followed:
+     * 1. Expand explicit list / recurrence rule into candidates
+     * 2. Sort by start time and check candidates against each other (single pass)
+     * 3. Check + reserve all candidates against existing slots (all-or-nothing)
+     * 4. Re-check against the database, insert all slots in one saveAll (JDBC batched)
+     * 5. Confirm / release the reservations once the transaction completes
+     */
+    @Override
+    @Transactional
+    public List<SlotResponse> createSlots(BulkCreateSlotRequest request) {
+
+        metrics.timeTransaction("slot.create_bulk");
+
+        // ================= STEP 1 =================
+        List<SlotInterval> candidates = expandCandidates(request);
+
+        if (candidates.isEmpty()) {
+            throw new CustomException("No slots to create");
+        }
+        if (candidates.size() > MAX_BULK_SLOTS) {
+            throw new CustomException(
+                    "Too many slots in one request (max " + MAX_BULK_SLOTS + ")");
+        }
+
+        // ================= STEP 2 =================
+        // Sorted by start, a candidate overlaps a previous one
+        // iff it starts before the previous one ends
+        candidates.sort(Comparator.comparing(SlotInterval::startTime));
+
+        SlotInterval previous = null;
+        for (SlotInterval candidate : candidates) {
+
+            if (!candidate.startTime().isBefore(candidate.endTime())) {
+                throw new CustomException(
+                        "Start time must be before end time: " + describe(candidate));
+            }
+            if (previous != null
+                    && candidate.startTime().isBefore(previous.endTime())) {
+                throw new CustomException(
+                        "Slot " + describe(candidate) + " overlaps with "
+                                + describe(previous) + " in the same request");
+            }
+            previous = candidate;
+        }
+
+        // ================= STEP 3 =================
+        OperationMetrics.Sample overlapCheck = metrics.start();
+        SlotInterval conflict = slotIntervalIndex.reserveAll(candidates);
+        metrics.record(overlapCheck, OperationMetrics.SLOT_OVERLAP_CHECK,
+                conflict == null ? "clear" : "overlap",
+                "mode", "bulk");
+        if (conflict != null) {
+            throw new CustomException(
+                    "Slot " + describe(conflict) + " overlaps with existing slot");
+        }
+
+        // ================= STEP 4 =================
+        List<Slot> slots = candidates.stream()
+                .map(candidate -> Slot.builder()
+                        .startTime(candidate.startTime())
+                        .endTime(candidate.endTime())
+                        .status(SlotStatus.AVAILABLE)
+                        .build())
+                .toList();
+
+        List<Slot> savedSlots;
+        try {
+            SlotInterval stored = findStoredConflict(candidates);
+            if (stored != null) {
+                throw new CustomException(
+                        "Slot " + describe(stored) + " overlaps with existing slot");
+            }
+
+            savedSlots = slotRepository.saveAll(slots);
+        } catch (RuntimeException e) {
+            candidates.forEach(c -> slotIntervalIndex.release(c.startTime()));
+            throw e;
+        }
+
+        // ================= STEP 5 =================
+        TransactionUtils.onCompletion(
+                () -> savedSlots.forEach(slot -> slotIntervalIndex.confirm(
+                        slot.getId(), slot.getStartTime(), slot.getEndTime())),
+                () -> candidates.forEach(c -> slotIntervalIndex.release(c.startTime()))
+        );
+
+        List<SlotResponse> responses = savedSlots.stream()
+                .map(SlotServiceImpl::mapToResponse)
+                .toList();
+
+        eventPublisher.publishEvent(new SlotsCreatedEvent(responses));
+
+        return responses;
+    }
+
+    /**
+     * Turns the bulk request into a mutable list of candidate intervals.
+     */
+    private List<SlotInterval> expandCandidates(BulkCreateSlotRequest request) {
+
+        boolean hasList = request.getSlots() != null && !request.getSlots().isEmpty();
+        boolean hasRule = request.getRecurrence() != null;
+
+        if (hasList == hasRule) {
+            throw new CustomException(
+                    "Provide either an explicit slot list or a recurrence rule");
+        }
+
+        List<SlotInterval> candidates = new ArrayList<>();
+
+        if (hasList) {
+            for (CreateSlotRequest slot : request.getSlots()) {
+                candidates.add(new SlotInterval(null, slot.getStartTime(), slot.getEndTime()));
+            }
+            return candidates;
+        }
+
+        SlotRecurrenceRule rule = request.getRecurrence();
+
+        if (!rule.getDayStartTime().isBefore(rule.getDayEndTime())) {
+            throw new CustomException("Day start time must be before day end time");
+        }
+
+        LocalDate endDate = rule.getStartDate().plusWeeks(rule.getWeeks());
+
+        for (LocalDate day = rule.getStartDate(); day.isBefore(endDate); day = day.plusDays(1)) {
+
+            if (!rule.getDaysOfWeek().contains(day.getDayOfWeek())) {
+                continue;
+            }
+
+            LocalDateTime dayEnd = day.atTime(rule.getDayEndTime());
+            LocalDateTime start = day.atTime(rule.getDayStartTime());
+            LocalDateTime end = start.plusMinutes(rule.getSlotMinutes());
+
+            while (!end.isAfter(dayEnd)) {
+                candidates.add(new SlotInterval(null, start, end));
+                start = end;
+                end = start.plusMinutes(rule.getSlotMinutes());
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * DB-side guard behind the interval index: catches slots this
+     * instance's index has not seen (another instance, a write outside
+     * this service, a reload race). Slots never overlap, so only the
+     * stored slot with the greatest start before end can conflict.
+     */
+    private SlotIntervalIndex.Conflict findStoredConflict(LocalDateTime start, LocalDateTime end) {
+
+        for (SlotInterval existing : slotRepository.findLastStartingBefore(end, PageRequest.of(0, 1))) {
+            if (existing.startTime().equals(start) && existing.endTime().equals(end)) {
+                return SlotIntervalIndex.Conflict.DUPLICATE;
+            }
+            if (existing.overlaps(start, end)) {
+                return SlotIntervalIndex.Conflict.OVERLAP;
+            }
+        }
+        return SlotIntervalIndex.Conflict.NONE;
+    }
+
+    /**
+     * Bulk variant: loads the stored slots around the (sorted) candidates
+     * in two queries and checks each candidate in memory.
+     *
+     * @return the first conflicting candidate, or null
+     */
+    private SlotInterval findStoredConflict(List<SlotInterval> candidates) {
+
+        LocalDateTime from = candidates.get(0).startTime();
+        LocalDateTime to = candidates.get(candidates.size() - 1).endTime();
+
+        NavigableMap<LocalDateTime, SlotInterval> stored = new TreeMap<>();
+        slotRepository.findLastStartingBefore(from, PageRequest.of(0, 1))
+                .forEach(interval -> stored.put(interval.startTime(), interval));
+        slotRepository.findIntervalsStartingBetween(from, to)
+                .forEach(interval -> stored.put(interval.startTime(), interval));
+
+        for (SlotInterval candidate : candidates) {
+            Map.Entry<LocalDateTime, SlotInterval> existing = stored.lowerEntry(candidate.endTime());
+            if (existing != null
+                    && existing.getValue().overlaps(candidate.startTime(), candidate.endTime())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private String describe(SlotInterval interval) {
+        return interval.startTime() + "–" + interval.endTime();
     }
 
     /**
@@ -92,8 +373,9 @@ public class SlotServiceImpl implements SlotService {
      * Reason:
      * - Avoid exposing entity directly
      * - Return only required fields to client
+     * (package-private static so the JMH benchmarks can call it)
      */
-    private SlotResponse mapToResponse(Slot slot) {
+    static SlotResponse mapToResponse(Slot slot) {
         SlotResponse slotResponse = new SlotResponse();
         slotResponse.setId(slot.getId());
         slotResponse.setStartTime(slot.getStartTime());
@@ -102,21 +384,110 @@ public class SlotServiceImpl implements SlotService {
         return slotResponse;
     }
 
+    /**
+     * Lists slots inside a time window, keyset paginated on (startTime, id).
+     * Steps followed:
+     * 1. Resolve window defaults (today → +7 days) and validate limits
+     * 2. Decode cursor (position after the last slot of the previous page)
+     * 3. Fetch limit + 1 DTO rows (per-day cache or DB) to know whether another page exists
+     */
     @Override
-    public List<SlotResponse> getAllSlots() {
+    public CursorPage<SlotResponse> getSlots(LocalDateTime from,
+                                             LocalDateTime to,
+                                             SlotStatus status,
+                                             String cursor,
+                                             int limit) {
 
         // ================= STEP 1 =================
-        // Fetch all slots from database
-        List<Slot> slots = slotRepository.findAll();
+        LocalDateTime windowStart = from != null
+                ? from
+                : LocalDate.now().atStartOfDay();
+
+        LocalDateTime windowEnd = to != null
+                ? to
+                : windowStart.plus(DEFAULT_WINDOW);
+
+        if (!windowStart.isBefore(windowEnd)) {
+            throw new CustomException("'from' must be before 'to'");
+        }
+        if (Duration.between(windowStart, windowEnd).compareTo(MAX_WINDOW) > 0) {
+            throw new CustomException(
+                    "Time window must not exceed " + MAX_WINDOW.toDays() + " days");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
 
         // ================= STEP 2 =================
-        // Convert Entity list → DTO list
-        return slots.stream()
-                .map(this::mapToResponse)
-                .toList();
+        // No cursor → start just before the window (every id is > 0)
+        KeysetCursor after = cursor != null
+                ? KeysetCursor.decode(cursor)
+                : new KeysetCursor(windowStart, 0L);
+
+        // ================= STEP 3 =================
+        List<SlotResponse> rows = cacheEnabled
+                ? readWindowFromCache(windowStart, windowEnd, status, after, limit + 1)
+                : slotRepository.findWindow(
+                        windowStart,
+                        windowEnd,
+                        status,
+                        after.time(),
+                        after.id(),
+                        PageRequest.of(0, limit + 1));
+
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<SlotResponse> page = rows.subList(0, limit);
+        SlotResponse last = page.get(limit - 1);
+
+        return new CursorPage<>(
+                page,
+                new KeysetCursor(last.getStartTime(), last.getId()).encode());
     }
 
+    /**
+     * Same result as {@link SlotRepository#findWindow}, served day by day
+     * from the availability cache.
+     */
+    private List<SlotResponse> readWindowFromCache(LocalDateTime from,
+                                                   LocalDateTime to,
+                                                   SlotStatus status,
+                                                   KeysetCursor after,
+                                                   int maxRows) {
+
+        List<SlotResponse> rows = new ArrayList<>(maxRows);
 
+        LocalDate firstDay = after.time().isAfter(from)
+                ? after.time().toLocalDate()
+                : from.toLocalDate();
 
+        for (LocalDate day = firstDay; day.atStartOfDay().isBefore(to); day = day.plusDays(1)) {
+
+            for (SlotResponse slot : slotAvailabilityCache.getDay(day)) {
+
+                LocalDateTime start = slot.getStartTime();
+
+                if (start.isBefore(from) || !start.isBefore(to)) {
+                    continue;
+                }
+                if (status != null && slot.getStatus() != status) {
+                    continue;
+                }
+                if (start.isBefore(after.time())
+                        || (start.equals(after.time()) && slot.getId() <= after.id())) {
+                    continue;
+                }
+
+                rows.add(slot);
+                if (rows.size() == maxRows) {
+                    return rows;
+                }
+            }
+        }
+
+        return rows;
+    }
 
 }
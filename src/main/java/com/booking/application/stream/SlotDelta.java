@@ -0,0 +1,46 @@
+package com.booking.application.stream;
+
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.enums.SlotStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One message on the live slot feed.
+ *
+ * Deltas carry absolute state ("slot 42 is now BOOKED"), so applying one
+ * twice is harmless and clients may load {@code GET /api/slots} after
+ * opening the stream without worrying about the overlap.
+ *
+ * <ul>
+ *   <li>{@code READY}   – stream is live; its id is the resume position</li>
+ *   <li>{@code STATUS}  – {@code slotId} changed to {@code status}</li>
+ *   <li>{@code CREATED} – new {@code slots}</li>
+ *   <li>{@code RELOAD}  – changes were missed, re-read {@code GET /api/slots}</li>
+ * </ul>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SlotDelta(String type, Long slotId, SlotStatus status, List<SlotResponse> slots) {
+
+    public static final String READY = "READY";
+    public static final String STATUS = "STATUS";
+    public static final String CREATED = "CREATED";
+    public static final String RELOAD = "RELOAD";
+
+    public static SlotDelta ready() {
+        return new SlotDelta(READY, null, null, null);
+    }
+
+    public static SlotDelta status(Long slotId, SlotStatus status) {
+        return new SlotDelta(STATUS, slotId, status, null);
+    }
+
+    public static SlotDelta created(List<SlotResponse> slots) {
+        return new SlotDelta(CREATED, null, null, slots);
+    }
+
+    public static SlotDelta reload() {
+        return new SlotDelta(RELOAD, null, null, null);
+    }
+}
@@ -0,0 +1,390 @@
+package com.booking.application.stream;
+
+import com.booking.application.events.SlotStatusChangedEvent;
+import com.booking.application.events.SlotsCreatedEvent;
+import com.booking.application.exceptions.TooManyRequestsException;
+import com.booking.application.metrics.OperationMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SlotEventBus
+ * ------------
+ * In-memory fan-out of committed slot changes to live subscribers
+ * (SSE today, any transport implementing {@link Sink}).
+ *
+ * - Every change gets the next sequence number and is serialized once,
+ *   then kept in a fixed-size history ring for resuming clients.
+ * - Each subscriber has its own bounded queue, drained by a small pool
+ *   of writer threads. Publishing never blocks on a client's socket.
+ * - A subscriber whose queue fills up is disconnected; it reconnects
+ *   with its last event id and catches up from the history. If that
+ *   part of the history is gone it gets RELOAD instead.
+ *
+ * Event ids are {@code <epoch>-<seq>}; the epoch changes on restart so
+ * ids from a previous process always lead to RELOAD.
+ */
+@Component
+public class SlotEventBus implements DisposableBean {
+
+    /**
+     * Transport side of one subscriber. Called from a writer thread,
+     * one frame at a time; blocking writes are fine.
+     */
+    public interface Sink {
+
+        void send(Frame frame) throws IOException;
+
+        void close();
+    }
+
+    /**
+     * Handle returned by {@link #subscribe}; cancel when the transport
+     * closes on its own (client gone, timeout).
+     */
+    public interface Subscription {
+
+        void cancel();
+    }
+
+    /**
+     * One serialized event. A frame without data is a heartbeat.
+     */
+    public record Frame(String id, String data) {
+
+        public boolean isHeartbeat() {
+            return data == null;
+        }
+    }
+
+    private static final Frame HEARTBEAT = new Frame(null, null);
+
+    private final ObjectMapper objectMapper;
+    private final OperationMetrics metrics;
+
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final int maxCreatedPerEvent;
+
+    // Changes on every start, so stale ids from an old process are detected
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // Guarded by this: sequence, history and subscriber registration
+    private final Frame[] history;
+    private long lastSequence;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final String readyData;
+    private final String reloadData;
+
+    private final ThreadPoolExecutor writers;
+    private final ScheduledExecutorService heartbeats;
+
+    public SlotEventBus(
+            ObjectMapper objectMapper,
+            OperationMetrics metrics,
+            @Value("${slots.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${slots.stream.queue-capacity:256}") int queueCapacity,
+            @Value("${slots.stream.history-size:10000}") int historySize,
+            @Value("${slots.stream.max-created-per-event:500}") int maxCreatedPerEvent,
+            @Value("${slots.stream.writer-threads:4}") int writerThreads,
+            @Value("${slots.stream.heartbeat-seconds:15}") int heartbeatSeconds) {
+
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.maxCreatedPerEvent = maxCreatedPerEvent;
+        this.history = new Frame[historySize];
+
+        this.readyData = json(SlotDelta.ready());
+        this.reloadData = json(SlotDelta.reload());
+
+        // Unbounded on purpose: a subscriber has at most one drain task queued
+        this.writers = new ThreadPoolExecutor(
+                writerThreads, writerThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                daemonThreads("slot-stream-writer-"));
+
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                daemonThreads("slot-stream-heartbeat-"));
+
+        // Keeps idle connections open through proxies and finds dead clients
+        if (heartbeatSeconds > 0) {
+            heartbeats.scheduleAtFixedRate(this::heartbeat,
+                    heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        }
+
+        metrics.gauge(OperationMetrics.SLOT_STREAM_SUBSCRIBERS, subscribers, Set::size);
+    }
+
+    // ================= PUBLISH (after commit) =================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotStatusChanged(SlotStatusChangedEvent event) {
+        publish(SlotDelta.status(event.slotId(), event.status()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsCreated(SlotsCreatedEvent event) {
+
+        // A big bulk create would swamp every queue → one RELOAD instead
+        publish(event.slots().size() > maxCreatedPerEvent
+                ? SlotDelta.reload()
+                : SlotDelta.created(event.slots()));
+    }
+
+    void publish(SlotDelta delta) {
+
+        // Serialized once for all subscribers, outside the lock
+        String data = json(delta);
+
+        synchronized (this) {
+            long sequence = ++lastSequence;
+            Frame frame = new Frame(id(sequence), data);
+            history[(int) (sequence % history.length)] = frame;
+
+            for (Subscriber subscriber : subscribers) {
+                offer(subscriber, frame);
+            }
+        }
+    }
+
+    // ================= SUBSCRIBE =================
+
+    /**
+     * Registers a subscriber. Without {@code lastEventId} it first gets
+     * READY (carrying the current position); with one it gets the missed
+     * changes from the history, or RELOAD if they are no longer there.
+     *
+     * @throws TooManyRequestsException when the subscriber limit is reached
+     */
+    public Subscription subscribe(Sink sink, String lastEventId) {
+
+        if (subscribers.size() >= maxSubscribers) {
+            metrics.count(OperationMetrics.SLOT_STREAM_DISCONNECTS, "reason", "rejected");
+            throw new TooManyRequestsException("Too many live subscribers, please retry", 5);
+        }
+
+        Subscriber subscriber = new Subscriber(sink, queueCapacity);
+
+        // Catch-up and registration under the publish lock:
+        // no change is missed or delivered twice in between
+        synchronized (this) {
+            for (Frame frame : catchUp(lastEventId)) {
+                subscriber.queue.offer(frame);
+            }
+            subscribers.add(subscriber);
+        }
+
+        schedule(subscriber);
+        return subscriber;
+    }
+
+    // Guarded by this
+    private List<Frame> catchUp(String lastEventId) {
+
+        String position = id(lastSequence);
+
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of(new Frame(position, readyData));
+        }
+
+        long after = sequenceOf(lastEventId);
+        long missed = lastSequence - after;
+
+        // 1️⃣ Unknown / other epoch / ahead of us / fallen out of the history
+        if (after < 0 || missed < 0 || missed > history.length || missed >= queueCapacity) {
+            metrics.count(OperationMetrics.SLOT_STREAM_RESUMES, "result", "reload");
+            return List.of(new Frame(position, reloadData));
+        }
+
+        // 2️⃣ Replay exactly what was missed
+        metrics.count(OperationMetrics.SLOT_STREAM_RESUMES, "result", "replayed");
+        List<Frame> frames = new ArrayList<>((int) missed);
+        for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+            frames.add(history[(int) (sequence % history.length)]);
+        }
+        return frames;
+    }
+
+    // ================= DELIVERY =================
+
+    private void offer(Subscriber subscriber, Frame frame) {
+
+        if (subscriber.queue.offer(frame)) {
+            schedule(subscriber);
+            return;
+        }
+
+        // Queue full → client too slow; disconnect, it resumes from history
+        if (subscriber.overflowed.compareAndSet(false, true)) {
+            subscribers.remove(subscriber);
+            metrics.count(OperationMetrics.SLOT_STREAM_DISCONNECTS, "reason", "slow");
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            writers.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            do {
+                Frame frame;
+                while (!subscriber.overflowed.get()
+                        && (frame = subscriber.queue.poll()) != null) {
+                    subscriber.sink.send(frame);
+                }
+
+                if (subscriber.overflowed.get()) {
+                    close(subscriber, null);
+                    return;
+                }
+
+                subscriber.scheduled.set(false);
+
+                // re-check: a frame may have arrived after the last poll
+            } while (!subscriber.queue.isEmpty()
+                    && subscriber.scheduled.compareAndSet(false, true));
+
+        } catch (Exception ex) {
+            close(subscriber, "error");
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, HEARTBEAT);
+        }
+    }
+
+    private void close(Subscriber subscriber, String reason) {
+
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        subscribers.remove(subscriber);
+        if (reason != null) {
+            metrics.count(OperationMetrics.SLOT_STREAM_DISCONNECTS, "reason", reason);
+        }
+
+        try {
+            subscriber.sink.close();
+        } catch (RuntimeException ignored) {
+            // already gone
+        }
+    }
+
+    // ================= STATS =================
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            close(subscriber, "shutdown");
+        }
+        writers.shutdownNow();
+    }
+
+    // ================= HELPERS =================
+
+    private String id(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    // -1 when the id is malformed or from another epoch
+    private long sequenceOf(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash <= 0 || !eventId.substring(0, dash).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private String json(SlotDelta delta) {
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot serialize slot delta", ex);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // ================= SUBSCRIBER =================
+
+    private final class Subscriber implements Subscription {
+
+        private final Sink sink;
+        private final ArrayBlockingQueue<Frame> queue;
+
+        // a drain task is queued or running
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(Sink sink, int capacity) {
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Transport closed on its own: just detach, no close() call back.
+         */
+        @Override
+        public void cancel() {
+            if (closed.compareAndSet(false, true)) {
+                subscribers.remove(this);
+                queue.clear();
+            }
+        }
+    }
+}
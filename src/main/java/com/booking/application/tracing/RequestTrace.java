@@ -0,0 +1,126 @@
+package com.booking.application.tracing;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Timeline of one HTTP request: filter, controller, service steps and
+ * SQL statements as spans relative to the request start.
+ *
+ * Written only by the request thread; handed to {@link SlowestRequests}
+ * once finished and never modified after that.
+ */
+public final class RequestTrace {
+
+    public record Span(String name, String detail, long offsetNanos, long durationNanos) {}
+
+    private final String requestId;
+    private final String method;
+    private final String path;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+
+    // bounded → a bulk request with thousands of statements stays cheap
+    private final int maxSpans;
+    private final List<Span> spans = new ArrayList<>();
+    private int droppedSpans;
+
+    private String handler;
+    private int status;
+    private long durationNanos;
+
+    RequestTrace(String requestId, String method, String path, int maxSpans) {
+        this.requestId = requestId;
+        this.method = method;
+        this.path = path;
+        this.maxSpans = maxSpans;
+    }
+
+    void addSpan(String name, String detail, long spanStartNanos, long spanDurationNanos) {
+        if (spans.size() >= maxSpans) {
+            droppedSpans++;
+            return;
+        }
+        spans.add(new Span(name, detail, spanStartNanos - startNanos, spanDurationNanos));
+    }
+
+    void setHandler(String handler) {
+        this.handler = handler;
+    }
+
+    void finish(int status) {
+        this.status = status;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Server-Timing header value: spans summed per name, plus the
+     * elapsed time so far as {@code app}.
+     * e.g. {@code security.jwt.filter;dur=0.31, sql;desc="3";dur=2.10, app;dur=9.80}
+     */
+    String serverTiming() {
+        Map<String, long[]> totals = new LinkedHashMap<>();
+        for (Span span : spans) {
+            long[] total = totals.computeIfAbsent(span.name(), k -> new long[2]);
+            total[0] += span.durationNanos();
+            total[1]++;
+        }
+
+        StringBuilder header = new StringBuilder();
+        totals.forEach((name, total) -> {
+            header.append(name);
+            if (total[1] > 1) {
+                header.append(";desc=\"").append(total[1]).append('"');
+            }
+            header.append(";dur=").append(millis(total[0])).append(", ");
+        });
+        header.append("app;dur=").append(millis(System.nanoTime() - startNanos));
+        return header.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    // ================= READ SIDE (finished traces) =================
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public int getDroppedSpans() {
+        return droppedSpans;
+    }
+
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(spans);
+    }
+}
@@ -0,0 +1,137 @@
+package com.booking.application.tracing;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * RequestTracer
+ * --------------
+ * In-process, per-request span recorder.
+ *
+ * {@link RequestTracingFilter} opens a trace per HTTP request on the
+ * request thread; the JWT filter, controller interceptor, service
+ * timers ({@code OperationMetrics}) and the JDBC proxy add spans to it.
+ * Finished traces go to a buffer of the slowest N requests, exposed at
+ * /api/admin/traces.
+ *
+ * Outside a request (startup, scheduled jobs, the group-commit worker)
+ * there is no current trace and every call is a ThreadLocal read.
+ */
+@Component
+public class RequestTracer {
+
+    /**
+     * Open span; close it (try-with-resources) to record it.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Scope NOOP = () -> { };
+
+    private final ThreadLocal<RequestTrace> current = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final boolean serverTiming;
+    private final int maxSpans;
+    private final SlowestRequests slowest;
+
+    @Autowired
+    public RequestTracer(
+            @Value("${tracing.enabled:true}") boolean enabled,
+            @Value("${tracing.server-timing.enabled:false}") boolean serverTiming,
+            @Value("${tracing.max-spans:100}") int maxSpans,
+            @Value("${tracing.slowest.size:50}") int slowestSize) {
+        this.enabled = enabled;
+        this.serverTiming = serverTiming;
+        this.maxSpans = maxSpans;
+        this.slowest = new SlowestRequests(slowestSize);
+    }
+
+    // Defaults, for code and tests that build it by hand
+    public RequestTracer() {
+        this(true, false, 100, 50);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isServerTimingEnabled() {
+        return enabled && serverTiming;
+    }
+
+    // ================= REQUEST LIFECYCLE =================
+
+    RequestTrace begin(String requestId, String method, String path) {
+        if (!enabled) {
+            return null;
+        }
+        RequestTrace trace = new RequestTrace(requestId, method, path, maxSpans);
+        current.set(trace);
+        return trace;
+    }
+
+    void end(RequestTrace trace, int status) {
+        current.remove();
+        trace.finish(status);
+        slowest.offer(trace);
+    }
+
+    RequestTrace current() {
+        return current.get();
+    }
+
+    // ================= SPANS =================
+
+    /**
+     * True while the calling thread is serving a traced request.
+     */
+    public boolean isTracing() {
+        return current.get() != null;
+    }
+
+    public Scope span(String name) {
+        return span(name, null);
+    }
+
+    public Scope span(String name, String detail) {
+        RequestTrace trace = current.get();
+        if (trace == null) {
+            return NOOP;
+        }
+        long start = System.nanoTime();
+        return () -> trace.addSpan(name, detail, start, System.nanoTime() - start);
+    }
+
+    /**
+     * Records an already measured span (no-op outside a traced request).
+     */
+    public void record(String name, String detail, long startNanos, long durationNanos) {
+        RequestTrace trace = current.get();
+        if (trace != null) {
+            trace.addSpan(name, detail, startNanos, durationNanos);
+        }
+    }
+
+    void setHandler(String handler) {
+        RequestTrace trace = current.get();
+        if (trace != null) {
+            trace.setHandler(handler);
+        }
+    }
+
+    // ================= SLOWEST REQUESTS =================
+
+    public List<RequestTrace> slowest() {
+        return slowest.snapshot();
+    }
+
+    public void clearSlowest() {
+        slowest.clear();
+    }
+}
@@ -0,0 +1,72 @@
+package com.booking.application.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * First filter in the chain: assigns the request id and opens / closes
+ * the request trace around everything else (security, controller, SQL).
+ *
+ * An incoming {@code X-Request-Id} is reused when it looks sane, so a
+ * proxy or client id ties up with ours. The id is echoed back in the
+ * response and put in the logging MDC as {@code requestId}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final String MDC_KEY = "requestId";
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final RequestTracer tracer;
+
+    public RequestTracingFilter(RequestTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String requestId = requestId(request);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(MDC_KEY, requestId);
+
+        RequestTrace trace = tracer.begin(
+                requestId, request.getMethod(), request.getRequestURI());
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (trace != null) {
+                tracer.end(trace, response.getStatus());
+            }
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private String requestId(HttpServletRequest request) {
+        String incoming = request.getHeader(REQUEST_ID_HEADER);
+        if (incoming != null && VALID_ID.matcher(incoming).matches()) {
+            return incoming;
+        }
+        // 64 random bits, no SecureRandom on the hot path
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+}
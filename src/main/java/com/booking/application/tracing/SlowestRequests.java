@@ -0,0 +1,77 @@
+package com.booking.application.tracing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Fixed-size buffer keeping the N slowest finished requests.
+ *
+ * Once full, a request faster than the current minimum is rejected by
+ * one volatile read, so the common (fast) request never takes the lock.
+ * A slower one replaces the current minimum.
+ */
+public class SlowestRequests {
+
+    private final RequestTrace[] slots;
+    private int size;
+    private int minIndex;
+
+    // duration a request must beat once the buffer is full
+    private volatile long thresholdNanos = -1;
+
+    public SlowestRequests(int capacity) {
+        this.slots = new RequestTrace[Math.max(1, capacity)];
+    }
+
+    public void offer(RequestTrace trace) {
+
+        long duration = trace.getDurationNanos();
+        if (duration <= thresholdNanos) {
+            return;
+        }
+
+        synchronized (this) {
+            if (size < slots.length) {
+                slots[size++] = trace;
+                if (size == slots.length) {
+                    updateMinimum();
+                }
+                return;
+            }
+
+            if (duration <= slots[minIndex].getDurationNanos()) {
+                return;
+            }
+            slots[minIndex] = trace;
+            updateMinimum();
+        }
+    }
+
+    /**
+     * Slowest first.
+     */
+    public synchronized List<RequestTrace> snapshot() {
+        List<RequestTrace> traces = new ArrayList<>(Arrays.asList(slots).subList(0, size));
+        traces.sort(Comparator.comparingLong(RequestTrace::getDurationNanos).reversed());
+        return traces;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(slots, null);
+        size = 0;
+        minIndex = 0;
+        thresholdNanos = -1;
+    }
+
+    private void updateMinimum() {
+        minIndex = 0;
+        for (int i = 1; i < slots.length; i++) {
+            if (slots[i].getDurationNanos() < slots[minIndex].getDurationNanos()) {
+                minIndex = i;
+            }
+        }
+        thresholdNanos = slots[minIndex].getDurationNanos();
+    }
+}
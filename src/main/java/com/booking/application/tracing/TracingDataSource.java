@@ -0,0 +1,147 @@
+package com.booking.application.tracing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Wraps the DataSource in a JDK proxy that records SQL spans into the
+ * current request trace:
+ * - {@code db.connection} : pool checkout (waiting for a free connection)
+ * - {@code sql}           : every execute / executeQuery / executeUpdate / executeBatch
+ * - {@code db.commit}, {@code db.rollback}
+ *
+ * Connections and statements are only wrapped while the calling thread
+ * serves a traced request; everything else gets the raw pooled objects.
+ * {@code unwrap} still reaches the pool (Hikari metrics keep working).
+ */
+@Component
+public class TracingDataSource implements BeanPostProcessor {
+
+    private final ObjectProvider<RequestTracer> tracer;
+    private final boolean enabled;
+
+    public TracingDataSource(ObjectProvider<RequestTracer> tracer,
+                             @Value("${tracing.enabled:true}") boolean enabled) {
+        this.tracer = tracer;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return wrap(dataSource, DataSource.class, null);
+        }
+        return bean;
+    }
+
+    private <T> T wrap(Object target, Class<T> type, String sql) {
+        return type.cast(Proxy.newProxyInstance(
+                TracingDataSource.class.getClassLoader(),
+                new Class<?>[]{type},
+                new Handler(target, sql)));
+    }
+
+    private final class Handler implements InvocationHandler {
+
+        private final Object target;
+
+        // SQL of a prepared / callable statement
+        private final String sql;
+
+        Handler(Object target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            String name = method.getName();
+
+            switch (name) {
+                case "unwrap":
+                    return ((Class<?>) args[0]).isInstance(target)
+                            ? target
+                            : invokeTarget(method, args);
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(target)
+                            || (Boolean) invokeTarget(method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Tracing[" + target + "]";
+                default:
+                    break;
+            }
+
+            RequestTracer requestTracer = tracer.getObject();
+            if (!requestTracer.isTracing()) {
+                return invokeTarget(method, args);
+            }
+
+            String span = spanName(name);
+            long start = System.nanoTime();
+            try {
+                return wrapResult(invokeTarget(method, args), method, args);
+            } finally {
+                if (span != null) {
+                    requestTracer.record(span, "sql".equals(span) ? sqlOf(args) : null,
+                            start, System.nanoTime() - start);
+                }
+            }
+        }
+
+        private String spanName(String method) {
+            if (target instanceof DataSource) {
+                return method.equals("getConnection") ? "db.connection" : null;
+            }
+            if (target instanceof Connection) {
+                return switch (method) {
+                    case "commit" -> "db.commit";
+                    case "rollback" -> "db.rollback";
+                    default -> null;
+                };
+            }
+            return method.startsWith("execute") ? "sql" : null;
+        }
+
+        private String sqlOf(Object[] args) {
+            // Statement.execute(String sql, ...) carries its own SQL
+            return args != null && args.length > 0 && args[0] instanceof String text
+                    ? text
+                    : sql;
+        }
+
+        private Object wrapResult(Object result, Method method, Object[] args) {
+            if (result instanceof Connection connection) {
+                return wrap(connection, Connection.class, null);
+            }
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                // Statement, PreparedStatement or CallableStatement
+                return wrap(result, method.getReturnType(),
+                        args != null && args.length > 0 && args[0] instanceof String text ? text : null);
+            }
+            return result;
+        }
+
+        private Object invokeTarget(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.booking.application.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * MVC side of request tracing:
+ * - a "controller" span around every handler method
+ * - optional {@code Server-Timing} header on JSON responses
+ */
+@Configuration
+public class TracingWebConfig implements WebMvcConfigurer {
+
+    private static final String CONTROLLER_START = TracingWebConfig.class.getName() + ".start";
+
+    private final RequestTracer tracer;
+
+    public TracingWebConfig(RequestTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+
+            @Override
+            public boolean preHandle(HttpServletRequest request,
+                                     HttpServletResponse response,
+                                     Object handler) {
+                if (tracer.isTracing() && handler instanceof HandlerMethod method) {
+                    tracer.setHandler(method.getBeanType().getSimpleName()
+                            + "." + method.getMethod().getName());
+                    request.setAttribute(CONTROLLER_START, System.nanoTime());
+                }
+                return true;
+            }
+
+            @Override
+            public void afterCompletion(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        Object handler,
+                                        Exception ex) {
+                if (request.getAttribute(CONTROLLER_START) instanceof Long start) {
+                    tracer.record("controller", null, start, System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    /**
+     * Adds Server-Timing just before the body is written (the response is
+     * still uncommitted here, unlike after the filter chain returns).
+     * The controller span is still open at this point; {@code app} covers it.
+     */
+    @RestControllerAdvice
+    static class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+        private final RequestTracer tracer;
+
+        ServerTimingAdvice(RequestTracer tracer) {
+            this.tracer = tracer;
+        }
+
+        @Override
+        public boolean supports(MethodParameter returnType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+            return tracer.isServerTimingEnabled();
+        }
+
+        @Override
+        public Object beforeBodyWrite(Object body,
+                                      MethodParameter returnType,
+                                      MediaType selectedContentType,
+                                      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                      ServerHttpRequest request,
+                                      ServerHttpResponse response) {
+            RequestTrace trace = tracer.current();
+            if (trace != null) {
+                response.getHeaders().add("Server-Timing", trace.serverTiming());
+            }
+            return body;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.booking.application.utils;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Loads Caffeine entries on the CALLER's thread, outside the map lock.
+ *
+ * A plain Cache.get(key, loader) runs the loader inside
+ * ConcurrentHashMap.compute, i.e. inside a synchronized bin lock. A
+ * blocking JDBC load there pins a virtual thread to its carrier, and
+ * every other reader of that key pins too while it waits.
+ *
+ * Here compute only installs an empty future; the thread that installed
+ * it runs the loader afterwards and everyone else parks on the future
+ * (which unmounts a virtual thread). Concurrent loads of one key are
+ * still collapsed into one.
+ */
+public final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    public static <K, V> V getOnCallerThread(AsyncCache<K, V> cache, K key,
+                                             Function<? super K, ? extends V> loader) {
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> current = cache.get(key, (k, executor) -> mine);
+
+        if (current == mine) {
+            try {
+                mine.complete(loader.apply(key));
+            } catch (RuntimeException | Error ex) {
+                // failed futures are dropped by Caffeine → next caller retries
+                mine.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        return current.join();
+    }
+}
@@ -0,0 +1,40 @@
+package com.booking.application.utils;
+
+import com.booking.application.exceptions.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over (timestamp, id).
+ *
+ * Encoded as URL-safe Base64 of "timestamp|id" so clients treat it
+ * as a token and never build it themselves.
+ */
+public record KeysetCursor(LocalDateTime time, Long id) {
+
+    public String encode() {
+        String raw = time + "|" + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(
+                    Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8);
+
+            int separator = raw.lastIndexOf('|');
+
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+
+        } catch (RuntimeException e) {
+            throw new CustomException("Invalid cursor");
+        }
+    }
+}
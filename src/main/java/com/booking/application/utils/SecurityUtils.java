@@ -1,5 +1,6 @@
 package com.booking.application.utils;
 
+import com.booking.application.security.CustomUserDetails;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -15,4 +16,20 @@ public class SecurityUtils {
 
         return auth.getName(); // ← EMAIL
     }
+
+    /**
+     * Id of the logged-in user, read from the security principal
+     * (no database lookup).
+     */
+    public static Long getCurrentUserId() {
+        Authentication auth =
+                SecurityContextHolder.getContext().getAuthentication();
+
+        if (auth == null || !auth.isAuthenticated()
+                || !(auth.getPrincipal() instanceof CustomUserDetails userDetails)) {
+            throw new RuntimeException("User not authenticated");
+        }
+
+        return userDetails.getUserId();
+    }
 }
@@ -0,0 +1,45 @@
+package com.booking.application.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for running in-memory side effects only once the
+ * surrounding database transaction has finished.
+ *
+ * When no transaction is active (e.g. plain unit tests) the
+ * commit callback runs immediately.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    public static void afterCommit(Runnable onCommit) {
+        onCompletion(onCommit, null);
+    }
+
+    public static void onCompletion(Runnable onCommit, Runnable onRollback) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (onCommit != null) {
+                onCommit.run();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            if (onCommit != null) {
+                                onCommit.run();
+                            }
+                        } else if (onRollback != null) {
+                            onRollback.run();
+                        }
+                    }
+                });
+    }
+}
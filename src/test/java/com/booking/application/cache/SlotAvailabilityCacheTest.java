@@ -0,0 +1,160 @@
+package com.booking.application.cache;
+
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.events.SlotStatusChangedEvent;
+import com.booking.application.events.SlotsCreatedEvent;
+import com.booking.application.repository.SlotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlotAvailabilityCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 7);
+    private static final LocalDateTime NINE = DAY.atTime(9, 0);
+    private static final LocalDateTime TEN = DAY.atTime(10, 0);
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    private SlotAvailabilityCache cache;
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @BeforeEach
+    void setUp() {
+        // slot 1 → DAY, so patches can find their day
+        when(slotRepository.findAllIntervals())
+                .thenReturn(List.of(new SlotInterval(1L, TEN, TEN.plusHours(1))));
+        SlotIntervalIndex index = new SlotIntervalIndex(slotRepository);
+        index.reload();
+
+        cache = new SlotAvailabilityCache(slotRepository, index, 60, 400);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void secondRead_isAHit_otherDayIsAMiss() {
+        when(slotRepository.findAllStartingBetween(any(), any()))
+                .thenReturn(List.of(slot(1L, TEN, SlotStatus.AVAILABLE)));
+
+        assertEquals(1, cache.getDay(DAY).size());
+        assertEquals(1, cache.getDay(DAY).size());
+        cache.getDay(DAY.plusDays(1));
+
+        verify(slotRepository).findAllStartingBetween(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+        verify(slotRepository, times(2)).findAllStartingBetween(any(), any());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    void failedLoad_isNotCached() {
+        when(slotRepository.findAllStartingBetween(any(), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> cache.getDay(DAY));
+        assertEquals(List.of(), cache.getDay(DAY));
+    }
+
+    @Test
+    void statusChangeAfterCommit_patchesCachedDay_withoutReload() {
+        when(slotRepository.findAllStartingBetween(any(), any()))
+                .thenReturn(List.of(slot(1L, TEN, SlotStatus.AVAILABLE)));
+        cache.getDay(DAY);
+
+        cache.onSlotStatusChanged(new SlotStatusChangedEvent(1L, SlotStatus.BOOKED));
+
+        assertEquals(SlotStatus.BOOKED, cache.getDay(DAY).get(0).getStatus());
+        verify(slotRepository, times(1)).findAllStartingBetween(any(), any());
+    }
+
+    @Test
+    void createdSlots_areMergedInStartOrder() {
+        when(slotRepository.findAllStartingBetween(any(), any()))
+                .thenReturn(List.of(slot(1L, TEN, SlotStatus.AVAILABLE)));
+        cache.getDay(DAY);
+
+        cache.onSlotsCreated(new SlotsCreatedEvent(List.of(
+                slot(2L, NINE, SlotStatus.AVAILABLE),
+                slot(3L, DAY.plusDays(3).atTime(9, 0), SlotStatus.AVAILABLE))));
+
+        List<SlotResponse> slots = cache.getDay(DAY);
+        assertEquals(List.of(2L, 1L), slots.stream().map(SlotResponse::getId).toList());
+        // day not cached → nothing to patch, loaded fresh later
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void unknownSlot_dropsAllDays() {
+        when(slotRepository.findAllStartingBetween(any(), any())).thenReturn(List.of());
+        cache.getDay(DAY);
+
+        cache.onSlotStatusChanged(new SlotStatusChangedEvent(99L, SlotStatus.BOOKED));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void patchDuringInFlightLoad_isAppliedOnTopOfTheLoad_andLoadRunsOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // the DB read happened before the booking committed → stale AVAILABLE row
+        when(slotRepository.findAllStartingBetween(any(), any())).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of(slot(1L, TEN, SlotStatus.AVAILABLE));
+        });
+
+        Future<List<SlotResponse>> loader = pool.submit(() -> cache.getDay(DAY));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        // second reader joins the same load instead of starting its own
+        Future<List<SlotResponse>> waiter = pool.submit(() -> cache.getDay(DAY));
+
+        // booking commits while the day is still loading
+        cache.onSlotStatusChanged(new SlotStatusChangedEvent(1L, SlotStatus.BOOKED));
+        assertFalse(loader.isDone());
+
+        release.countDown();
+
+        // the loading thread gets its own raw result; everyone after sees the patch
+        assertEquals(SlotStatus.AVAILABLE, loader.get(5, TimeUnit.SECONDS).get(0).getStatus());
+        assertEquals(SlotStatus.BOOKED, cache.getDay(DAY).get(0).getStatus());
+        waiter.get(5, TimeUnit.SECONDS);
+        verify(slotRepository, times(1)).findAllStartingBetween(any(), any());
+    }
+
+    private static SlotResponse slot(Long id, LocalDateTime start, SlotStatus status) {
+        return new SlotResponse(id, start, start.plusHours(1), status);
+    }
+}
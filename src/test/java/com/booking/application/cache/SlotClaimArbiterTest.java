@@ -0,0 +1,74 @@
+package com.booking.application.cache;
+
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.events.SlotStatusChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotClaimArbiterTest {
+
+    private final SlotClaimArbiter arbiter = new SlotClaimArbiter(30);
+
+    @Test
+    void onlyOneClaimantPerSlot_untilReleased() {
+        SlotClaimArbiter.Claim first = arbiter.tryAcquire(1L);
+
+        assertNotNull(first);
+        assertNull(arbiter.tryAcquire(1L));
+        assertNotNull(arbiter.tryAcquire(2L));
+
+        // rollback → next request may try
+        arbiter.release(1L, first);
+        assertNotNull(arbiter.tryAcquire(1L));
+    }
+
+    @Test
+    void bookedSlot_isRejected_untilCancelled() {
+        SlotClaimArbiter.Claim claim = arbiter.tryAcquire(1L);
+        arbiter.markBooked(1L, claim);
+
+        assertNull(arbiter.tryAcquire(1L));
+
+        arbiter.onSlotStatusChanged(new SlotStatusChangedEvent(1L, SlotStatus.AVAILABLE));
+        assertNotNull(arbiter.tryAcquire(1L));
+    }
+
+    @Test
+    void lateMarkBooked_doesNotOverrideCancellation() {
+        SlotClaimArbiter.Claim claim = arbiter.tryAcquire(1L);
+
+        // cancel committed before the booking thread settled its claim
+        arbiter.onSlotStatusChanged(new SlotStatusChangedEvent(1L, SlotStatus.AVAILABLE));
+        arbiter.markBooked(1L, claim);
+
+        assertNotNull(arbiter.tryAcquire(1L));
+    }
+
+    @Test
+    void staleClaim_cannotReleaseOrMarkTheNewerClaim() {
+        // A in flight, a cancel clears the entry, B is admitted
+        SlotClaimArbiter.Claim a = arbiter.tryAcquire(1L);
+        arbiter.onSlotStatusChanged(new SlotStatusChangedEvent(1L, SlotStatus.AVAILABLE));
+        SlotClaimArbiter.Claim b = arbiter.tryAcquire(1L);
+        assertNotNull(b);
+        assertNotSame(a, b);
+
+        // A's late rollback must not free B's slot for a third request
+        arbiter.release(1L, a);
+        assertNull(arbiter.tryAcquire(1L));
+
+        // A's late commit must not flip B's live claim to BOOKED
+        arbiter.markBooked(1L, a);
+        arbiter.release(1L, b);
+        assertNotNull(arbiter.tryAcquire(1L));
+    }
+
+    @Test
+    void bookedEntry_expiresAfterTtl() {
+        SlotClaimArbiter shortLived = new SlotClaimArbiter(0);
+        shortLived.markBooked(1L, shortLived.tryAcquire(1L));
+
+        assertNotNull(shortLived.tryAcquire(1L));
+    }
+}
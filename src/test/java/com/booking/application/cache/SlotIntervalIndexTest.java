@@ -0,0 +1,86 @@
+package com.booking.application.cache;
+
+import com.booking.application.repository.SlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlotIntervalIndexTest {
+
+    private static final LocalDateTime TEN = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    private SlotIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(slotRepository.findAllIntervals())
+                .thenReturn(List.of(new SlotInterval(1L, TEN, TEN.plusHours(1))));
+
+        index = new SlotIntervalIndex(slotRepository);
+        index.reload();
+    }
+
+    @Test
+    void reserve_detectsDuplicateAndOverlap() {
+        assertEquals(SlotIntervalIndex.Conflict.DUPLICATE,
+                index.reserve(TEN, TEN.plusHours(1)));
+        assertEquals(SlotIntervalIndex.Conflict.OVERLAP,
+                index.reserve(TEN.plusMinutes(30), TEN.plusMinutes(90)));
+        assertEquals(SlotIntervalIndex.Conflict.OVERLAP,
+                index.reserve(TEN.minusMinutes(30), TEN.plusMinutes(30)));
+    }
+
+    @Test
+    void reserve_allowsAdjacentSlots() {
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                index.reserve(TEN.plusHours(1), TEN.plusHours(2)));
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                index.reserve(TEN.minusHours(1), TEN));
+    }
+
+    @Test
+    void reserve_blocksOverlapUntilReleased() {
+        LocalDateTime eleven = TEN.plusHours(1);
+
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                index.reserve(eleven, eleven.plusHours(1)));
+        assertEquals(SlotIntervalIndex.Conflict.OVERLAP,
+                index.reserve(eleven.plusMinutes(15), eleven.plusMinutes(45)));
+
+        index.release(eleven);
+
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                index.reserve(eleven.plusMinutes(15), eleven.plusMinutes(45)));
+    }
+
+    @Test
+    void confirm_keepsIdLookupInSync_andReleaseSparesCommittedSlots() {
+        LocalDateTime eleven = TEN.plusHours(1);
+
+        index.reserve(eleven, eleven.plusHours(1));
+        index.confirm(2L, eleven, eleven.plusHours(1));
+
+        assertEquals(eleven, index.findById(2L).startTime());
+        assertEquals(2, index.size());
+
+        // a late rollback callback must not drop a committed slot
+        index.release(eleven);
+
+        assertEquals(SlotIntervalIndex.Conflict.DUPLICATE,
+                index.reserve(eleven, eleven.plusHours(1)));
+        assertNull(index.findById(3L));
+    }
+}
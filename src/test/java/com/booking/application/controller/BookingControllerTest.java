@@ -1,6 +1,9 @@
 package com.booking.application.controller;
 
+import com.booking.application.dtos.response.BookingDetailsResponse;
 import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.dtos.response.CursorPage;
+import com.booking.application.enums.BookingStatus;
 import com.booking.application.service.BookingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
@@ -12,9 +15,13 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -84,4 +91,26 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Booking cancelled by admin"));
     }
+
+    @Test
+    void myBookings_returnsPage_andNextCursorHeader() throws Exception {
+
+        LocalDateTime start = LocalDateTime.of(2026, 3, 2, 10, 0);
+        BookingDetailsResponse booking = new BookingDetailsResponse(
+                7L, BookingStatus.ACTIVE, start.minusDays(1), 3L, start, start.plusHours(1));
+
+        when(bookingService.getMyBookings(BookingStatus.ACTIVE, null, null, null, 1))
+                .thenReturn(new CursorPage<>(List.of(booking), "next"));
+
+        mockMvc.perform(
+                        get("/api/bookings/me")
+                                .param("status", "ACTIVE")
+                                .param("limit", "1")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(SlotController.NEXT_CURSOR_HEADER, "next"))
+                .andExpect(jsonPath("$.data[0].bookingId").value(7L))
+                .andExpect(jsonPath("$.data[0].slotId").value(3L))
+                .andExpect(jsonPath("$.data[0].userEmail").doesNotExist());
+    }
 }
@@ -0,0 +1,110 @@
+package com.booking.application.controller;
+
+import com.booking.application.dtos.response.BookingExportRow;
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.enums.BookingStatus;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.repository.BookingRepository;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.service.impl.ExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+    private static final LocalDateTime TEN = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ExportServiceImpl exportService = new ExportServiceImpl(
+                slotRepository, bookingRepository, entityManager,
+                // ISO dates, as Boot's ObjectMapper writes them
+                new ObjectMapper().findAndRegisterModules()
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ExportController(exportService))
+                .build();
+    }
+
+    @Test
+    void exportSlots_csv_streamsHeaderAndRows() throws Exception {
+        when(slotRepository.streamAllForExport()).thenReturn(Stream.of(
+                new SlotResponse(1L, TEN, TEN.plusHours(1), SlotStatus.AVAILABLE),
+                new SlotResponse(2L, TEN.plusHours(1), TEN.plusHours(2), SlotStatus.BOOKED)));
+
+        MvcResult started = mockMvc.perform(get("/api/admin/export/slots").param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"slots.csv\""))
+                .andExpect(content().string("""
+                        id,startTime,endTime,status
+                        1,2030-01-07T10:00,2030-01-07T11:00,AVAILABLE
+                        2,2030-01-07T11:00,2030-01-07T12:00,BOOKED
+                        """));
+    }
+
+    @Test
+    void exportBookings_ndjson_streamsOneJsonObjectPerLine_andClearsEveryThousandRows() throws Exception {
+        when(bookingRepository.streamAllForExport()).thenReturn(LongStream.rangeClosed(1, 2_500)
+                .mapToObj(id -> new BookingExportRow(id, BookingStatus.ACTIVE, TEN,
+                        id, TEN, TEN.plusHours(1), 7L, "a,\"b\"@x.com")));
+
+        MvcResult started = mockMvc.perform(get("/api/admin/export/bookings"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2_500, lines.length);
+        assertEquals("{\"bookingId\":1,\"status\":\"ACTIVE\",\"createdAt\":\"2030-01-07T10:00:00\","
+                        + "\"slotId\":1,\"slotStartTime\":\"2030-01-07T10:00:00\",\"slotEndTime\":\"2030-01-07T11:00:00\","
+                        + "\"userId\":7,\"userEmail\":\"a,\\\"b\\\"@x.com\"}",
+                lines[0]);
+        verify(entityManager, times(2)).clear();
+    }
+}
@@ -1,6 +1,8 @@
 package com.booking.application.controller;
 
+import com.booking.application.dtos.request.BulkCreateSlotRequest;
 import com.booking.application.dtos.request.CreateSlotRequest;
+import com.booking.application.dtos.response.CursorPage;
 import com.booking.application.dtos.response.SlotResponse;
 import com.booking.application.enums.SlotStatus;
 import com.booking.application.exceptions.CustomException;
@@ -19,9 +21,12 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -132,6 +137,47 @@ class SlotControllerTest {
     }
 
 
+    /**
+     * ===============================
+     * TEST: BULK CREATE SLOTS - SUCCESS
+     * ===============================
+     */
+    @Test
+    void createSlots_bulk_success() throws Exception {
+
+        SlotResponse slot1 = new SlotResponse();
+        slot1.setId(1L);
+        slot1.setStatus(SlotStatus.AVAILABLE);
+
+        SlotResponse slot2 = new SlotResponse();
+        slot2.setId(2L);
+        slot2.setStatus(SlotStatus.AVAILABLE);
+
+        when(slotService.createSlots(any(BulkCreateSlotRequest.class)))
+                .thenReturn(List.of(slot1, slot2));
+
+        CreateSlotRequest first = new CreateSlotRequest();
+        first.setStartTime(LocalDateTime.now());
+        first.setEndTime(LocalDateTime.now().plusHours(1));
+
+        CreateSlotRequest second = new CreateSlotRequest();
+        second.setStartTime(LocalDateTime.now().plusHours(1));
+        second.setEndTime(LocalDateTime.now().plusHours(2));
+
+        BulkCreateSlotRequest request = new BulkCreateSlotRequest();
+        request.setSlots(List.of(first, second));
+
+        mockMvc.perform(
+                        post("/api/slots/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request))
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("2 slots created successfully"))
+                .andExpect(jsonPath("$.data.length()").value(2));
+    }
+
     /**
      * ===============================
      * TEST 4: GET ALL SLOTS - SUCCESS
@@ -148,11 +194,12 @@ class SlotControllerTest {
         slot2.setId(2L);
         slot2.setStatus(SlotStatus.BOOKED);
 
-        when(slotService.getAllSlots())
-                .thenReturn(List.of(slot1, slot2));
+        when(slotService.getSlots(any(), any(), any(), any(), anyInt()))
+                .thenReturn(new CursorPage<>(List.of(slot1, slot2), null));
 
         mockMvc.perform(get("/api/slots"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(SlotController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Slots fetched successfully"))
                 .andExpect(jsonPath("$.data.length()").value(2))
@@ -168,12 +215,42 @@ class SlotControllerTest {
     @Test
     void getAllSlots_success_whenNoSlotsExist() throws Exception {
 
-        when(slotService.getAllSlots())
-                .thenReturn(List.of());
+        when(slotService.getSlots(any(), any(), any(), any(), anyInt()))
+                .thenReturn(new CursorPage<>(List.of(), null));
 
         mockMvc.perform(get("/api/slots"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data").isEmpty());
     }
+
+    /**
+     * ==========================================
+     * TEST 6: LIST SLOTS - WINDOW FILTER + NEXT CURSOR
+     * ==========================================
+     */
+    @Test
+    void getSlots_returnsNextCursorHeader_whenMorePagesExist() throws Exception {
+
+        SlotResponse slot = new SlotResponse();
+        slot.setId(7L);
+        slot.setStatus(SlotStatus.AVAILABLE);
+
+        when(slotService.getSlots(
+                eq(LocalDateTime.of(2030, 1, 1, 0, 0)),
+                eq(LocalDateTime.of(2030, 1, 8, 0, 0)),
+                eq(SlotStatus.AVAILABLE),
+                any(),
+                eq(1)))
+                .thenReturn(new CursorPage<>(List.of(slot), "next-page"));
+
+        mockMvc.perform(get("/api/slots")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-08T00:00:00")
+                        .param("status", "AVAILABLE")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SlotController.NEXT_CURSOR_HEADER, "next-page"))
+                .andExpect(jsonPath("$.data[0].id").value(7L));
+    }
 }
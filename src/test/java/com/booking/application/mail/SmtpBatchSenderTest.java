@@ -0,0 +1,111 @@
+package com.booking.application.mail;
+
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.tracing.RequestTracer;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SmtpBatchSenderTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MailTemplates mailTemplates = new MailTemplates();
+
+    private SmtpBatchSender sender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        ObjectProvider<JavaMailSender> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(mailSender);
+
+        sender = new SmtpBatchSender(provider,
+                new OperationMetrics(meterRegistry, new RequestTracer()), 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.destroy();
+    }
+
+    @Test
+    void batches_areSentOverOneReusedConnection() throws Exception {
+        assertEquals(List.of(), nonNull(sender.send(messages(3))));
+        assertEquals(List.of(), nonNull(sender.send(messages(2))));
+
+        assertEquals(5, greenMail.getReceivedMessages().length);
+        assertEquals(1.0, meterRegistry.get(OperationMetrics.MAIL_SMTP_CONNECTIONS).counter().count());
+    }
+
+    @Test
+    void renderedTemplate_arrivesAsSent() throws Exception {
+        RenderedMail mail = mailTemplates.render("booking-confirmed", Map.of(
+                "bookingId", 42,
+                "userName", "Asha",
+                "slotStart", "Mon 19 Oct 2026, 10:00",
+                "slotEnd", "Mon 19 Oct 2026, 11:00"));
+
+        MimeMessage message = message("asha@example.com", mail);
+        sender.send(List.of(message));
+
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertEquals("Booking #42 confirmed", received.getSubject());
+        assertTrue(GreenMailUtil.getBody(received).contains("Hi Asha,"));
+    }
+
+    @Test
+    void missingTemplateValue_isRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> mailTemplates.render("booking-confirmed", Map.of("bookingId", 1)));
+    }
+
+    private List<MimeMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> message("user" + i + "@example.com",
+                        new RenderedMail("Subject " + i, "Body " + i)))
+                .toList();
+    }
+
+    private MimeMessage message(String to, RenderedMail mail) {
+        try {
+            MimeMessage message = sender.createMessage();
+            message.setFrom(new InternetAddress("no-reply@techpulse.local"));
+            message.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress(to));
+            message.setSubject(mail.subject());
+            message.setText(mail.body());
+            message.saveChanges();
+            return message;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static List<Exception> nonNull(List<Exception> failures) {
+        return failures.stream().filter(failure -> failure != null).toList();
+    }
+}
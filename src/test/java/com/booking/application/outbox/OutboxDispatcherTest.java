@@ -0,0 +1,150 @@
+package com.booking.application.outbox;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxEventType;
+import com.booking.application.enums.OutboxStatus;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.repository.OutboxEventRepository;
+import com.booking.application.tracing.RequestTracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        OutboxHandler flaky = new OutboxHandler() {
+            @Override
+            public String name() {
+                return "mail";
+            }
+
+            @Override
+            public boolean supports(OutboxEventType type) {
+                return true;
+            }
+
+            @Override
+            public void handle(OutboxEvent event) {
+                if (event.getAggregateId() < 0) {
+                    throw new IllegalStateException("smtp down");
+                }
+            }
+        };
+
+        dispatcher = new OutboxDispatcher(
+                outboxEventRepository, List.of(flaky), transactionManager,
+                new OperationMetrics(meterRegistry, new RequestTracer()),
+                true, 10, 1, 3, 1000, 600, 60, 1000, 0, 24);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void batch_marksSuccesses_andReschedulesOrGivesUpOnFailures() throws Exception {
+        OutboxEvent ok = event(1L, 10L, 0);
+        OutboxEvent retry = event(2L, -1L, 0);
+        OutboxEvent exhausted = event(3L, -1L, 2);
+
+        when(outboxEventRepository.findDueIds(any(), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString()))
+                .thenReturn(List.of(ok, retry, exhausted));
+        when(outboxEventRepository.markFailed(any(), any(), any(), any(), any())).thenReturn(1);
+
+        assertEquals(3, dispatcher.dispatchBatch());
+
+        // results are written back under the token the batch was claimed with
+        String token = claimToken();
+        verify(outboxEventRepository).markProcessed(eq(List.of(1L)), eq(token), any());
+        verify(outboxEventRepository).markFailed(eq(2L), eq(token), eq(OutboxStatus.PENDING), any(), anyString());
+        verify(outboxEventRepository).markFailed(eq(3L), eq(token), eq(OutboxStatus.FAILED), any(), anyString());
+        assertEquals(1.0, meterRegistry.counter(OperationMetrics.OUTBOX_FAILED, "handler", "mail").count());
+    }
+
+    @Test
+    void leaseLostMidBatch_doesNotCountTheRowAsFailed() throws Exception {
+        OutboxEvent exhausted = event(3L, -1L, 2);
+
+        when(outboxEventRepository.findDueIds(any(), any())).thenReturn(List.of(3L));
+        when(outboxEventRepository.findByClaimTokenOrderById(anyString())).thenReturn(List.of(exhausted));
+        // another run claimed the row meanwhile → the guarded update matches nothing
+        when(outboxEventRepository.markFailed(any(), any(), any(), any(), any())).thenReturn(0);
+
+        assertEquals(1, dispatcher.dispatchBatch());
+
+        assertEquals(0.0, meterRegistry.counter(OperationMetrics.OUTBOX_FAILED, "handler", "mail").count());
+    }
+
+    @Test
+    void emptyOutbox_claimsNothing() throws Exception {
+        when(outboxEventRepository.findDueIds(any(), any())).thenReturn(List.of());
+
+        assertEquals(0, dispatcher.dispatchBatch());
+
+        verify(outboxEventRepository, never()).claim(any(), any(), any(), any());
+    }
+
+    @Test
+    void backoff_doubles_upToTheCap() {
+        assertEquals(Duration.ofSeconds(1), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(8), dispatcher.backoff(4));
+        assertEquals(Duration.ofMinutes(10), dispatcher.backoff(20));
+    }
+
+    private String claimToken() {
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(outboxEventRepository).claim(any(), token.capture(), any(), any());
+        return token.getValue();
+    }
+
+    private static OutboxEvent event(Long id, Long aggregateId, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .type(OutboxEventType.BOOKING_CONFIRMED)
+                .aggregateId(aggregateId)
+                .handler("mail")
+                .payload("{}")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
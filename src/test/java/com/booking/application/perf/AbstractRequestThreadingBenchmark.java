@@ -0,0 +1,196 @@
+package com.booking.application.perf;
+
+import com.booking.application.cache.SlotIntervalIndex;
+import com.booking.application.entity.Slot;
+import com.booking.application.entity.User;
+import com.booking.application.enums.Role;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.repository.UserRepository;
+import com.booking.application.security.CustomUserDetails;
+import com.booking.application.security.jwt.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * HTTP load shared by the platform / virtual thread benchmarks.
+ *
+ * CLIENTS concurrent users each run ITERATIONS of:
+ * GET /api/slots (one day) + POST /api/bookings (a slot of their own),
+ * against the real Tomcat + Hikari + H2 stack.
+ */
+abstract class AbstractRequestThreadingBenchmark {
+
+    static final int CLIENTS = 500;
+    static final int ITERATIONS = 4;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private SlotIntervalIndex slotIntervalIndex;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    // each pass books slots of its own day
+    private LocalDate slotDay = LocalDate.now().plusYears(3);
+
+    String runLoad(String label) throws Exception {
+        List<String> tokens = createUsers();
+
+        // warm-up pass (JIT, pools, caches), then the measured pass
+        pass(tokens);
+        Stats stats = pass(tokens);
+
+        assertEquals(0, stats.failures);
+        return String.format("%-10s requests=%d wall=%dms throughput=%d req/s  cpu=%.2fms/req  p50=%.2fms p99=%.2fms max=%.2fms",
+                label, stats.latencies.size(), stats.elapsedMs,
+                stats.latencies.size() * 1000L / stats.elapsedMs,
+                stats.cpuNanos / 1_000_000.0 / stats.latencies.size(),
+                percentileMillis(stats.latencies, 50),
+                percentileMillis(stats.latencies, 99),
+                percentileMillis(stats.latencies, 100));
+    }
+
+    // cpuNanos: whole JVM (server, client and background threads) during the pass
+    private record Stats(List<Long> latencies, long elapsedMs, long cpuNanos, int failures) {}
+
+    private Stats pass(List<String> tokens) throws Exception {
+        List<Long> slotIds = createSlots(CLIENTS * ITERATIONS);
+        LocalDate day = slotDay;
+
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int c = 0; c < CLIENTS; c++) {
+            String token = tokens.get(c);
+            List<Long> mine = slotIds.subList(c * ITERATIONS, (c + 1) * ITERATIONS);
+
+            futures.add(clients.submit(() -> {
+                go.await();
+                for (Long slotId : mine) {
+                    send(get("/api/slots?from=" + day.atStartOfDay()
+                            + "&to=" + day.plusDays(1).atStartOfDay(), token), latencies, failures);
+                    send(post("/api/bookings?slotId=" + slotId, token), latencies, failures);
+                }
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        long cpuStart = processCpuNanos();
+        go.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long cpuNanos = processCpuNanos() - cpuStart;
+        clients.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Stats(sorted, elapsedMs, cpuNanos, failures.get());
+    }
+
+    // ================= HTTP =================
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private void send(HttpRequest request, List<Long> latencies, AtomicInteger failures) throws Exception {
+        long t0 = System.nanoTime();
+        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+        latencies.add(System.nanoTime() - t0);
+        if (response.statusCode() != 200) {
+            failures.incrementAndGet();
+        }
+    }
+
+    private static long processCpuNanos() {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+
+    private static double percentileMillis(List<Long> sorted, double p) {
+        int idx = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(idx, 0)) / 1_000_000.0;
+    }
+
+    // ================= FIXTURES =================
+
+    private List<String> createUsers() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            users.add(User.builder()
+                    .name("Load " + i)
+                    .email("load-" + i + "@test.com")
+                    .password("n/a")
+                    .role(Role.ROLE_USER)
+                    .build());
+        }
+        return userRepository.saveAll(users).stream()
+                .map(u -> jwtTokenProvider.generateToken(new CustomUserDetails(u)))
+                .toList();
+    }
+
+    private List<Long> createSlots(int count) {
+        // all on one fresh day, so every GET of the pass reads the same cached day
+        slotDay = slotDay.plusDays(1);
+        LocalDateTime start = slotDay.atStartOfDay();
+        List<Slot> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime s = start.plusSeconds(i * 86_400L / count);
+            slots.add(Slot.builder()
+                    .startTime(s)
+                    .endTime(s.plusSeconds(86_400L / count))
+                    .status(SlotStatus.AVAILABLE)
+                    .build());
+        }
+        List<Long> ids = slotRepository.saveAll(slots).stream().map(Slot::getId).toList();
+        slotIntervalIndex.reload();
+        return ids;
+    }
+}
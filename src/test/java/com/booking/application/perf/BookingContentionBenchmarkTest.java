@@ -0,0 +1,207 @@
+package com.booking.application.perf;
+
+import com.booking.application.entity.Slot;
+import com.booking.application.entity.User;
+import com.booking.application.enums.BookingLockStrategy;
+import com.booking.application.enums.Role;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.exceptions.SlotConflictException;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.repository.UserRepository;
+import com.booking.application.security.CustomUserDetails;
+import com.booking.application.service.BookingService;
+import com.booking.application.service.impl.BookingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Contention benchmark: many users book the same slot at the same instant.
+ * Compares PESSIMISTIC (row lock) with CONDITIONAL_UPDATE (guarded UPDATE),
+ * each called directly and behind the in-memory admission gate.
+ *
+ * Not part of the default build → run with: mvn test -Pperf
+ */
+@Tag("perf")
+@SpringBootTest
+@ActiveProfiles({"prod", "test"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:contention;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=10"
+})
+class BookingContentionBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int ROUNDS = 30;
+    private static final int WARMUP_ROUNDS = 5;
+
+    @Autowired
+    private BookingServiceImpl bookingService;
+
+    // @Primary → admission gate in front of bookingService
+    @Autowired
+    private BookingService admissionService;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private LocalDateTime nextStart = LocalDateTime.now().plusYears(1).withNano(0);
+
+    @BeforeEach
+    void setUp() {
+        if (!users.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < THREADS; i++) {
+            users.add(userRepository.save(User.builder()
+                    .name("Perf " + i)
+                    .email("perf-" + System.nanoTime() + "-" + i + "@test.com")
+                    .password("n/a")
+                    .role(Role.ROLE_USER)
+                    .build()));
+        }
+    }
+
+    @Test
+    void compareStrategiesUnderContention() throws Exception {
+        for (BookingLockStrategy strategy : BookingLockStrategy.values()) {
+            System.out.println(run(strategy.name(), strategy, bookingService));
+            System.out.println(run(strategy + "+admission", strategy, admissionService));
+        }
+    }
+
+    // ================= HELPERS =================
+
+    private Result run(String label, BookingLockStrategy strategy,
+                       BookingService service) throws Exception {
+        Object target = AopTestUtils.getTargetObject(bookingService);
+        ReflectionTestUtils.setField(target, "lockStrategy", strategy);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                round(pool, service, new Result(label));
+            }
+
+            Result result = new Result(label);
+            long start = System.nanoTime();
+            for (int i = 0; i < ROUNDS; i++) {
+                round(pool, service, result);
+            }
+            result.wallNanos = System.nanoTime() - start;
+
+            // exactly one winner per slot, everyone else a clean conflict
+            assertEquals(ROUNDS, result.winners.get());
+            assertEquals(ROUNDS * (THREADS - 1), result.conflicts.get());
+            assertEquals(0, result.errors.get());
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void round(ExecutorService pool, BookingService service, Result result) throws Exception {
+        Long slotId = newSlot();
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (User user : users) {
+            futures.add(pool.submit(() -> {
+                CustomUserDetails principal = new CustomUserDetails(user);
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                principal, null, principal.getAuthorities()));
+                try {
+                    go.await();
+                    long t0 = System.nanoTime();
+                    try {
+                        service.bookSlot(slotId);
+                        result.winners.incrementAndGet();
+                    } catch (SlotConflictException ex) {
+                        result.conflicts.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        result.errors.incrementAndGet();
+                    }
+                    result.record(System.nanoTime() - t0);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+
+        go.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+    }
+
+    private Long newSlot() {
+        LocalDateTime start = nextStart;
+        nextStart = nextStart.plusHours(1);
+        return slotRepository.save(Slot.builder()
+                .startTime(start)
+                .endTime(start.plusHours(1))
+                .status(SlotStatus.AVAILABLE)
+                .build()).getId();
+    }
+
+    private static final class Result {
+        final String label;
+        final AtomicInteger winners = new AtomicInteger();
+        final AtomicInteger conflicts = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
+        final List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long wallNanos;
+
+        Result(String label) {
+            this.label = label;
+        }
+
+        void record(long nanos) {
+            latencies.add(nanos);
+        }
+
+        private double percentileMillis(List<Long> sorted, double p) {
+            int idx = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(idx, 0)) / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            return String.format(
+                    "%-28s rounds=%d threads=%d wall=%dms  p50=%.2fms p99=%.2fms max=%.2fms",
+                    label, ROUNDS, THREADS, wallNanos / 1_000_000,
+                    percentileMillis(sorted, 50),
+                    percentileMillis(sorted, 99),
+                    percentileMillis(sorted, 100));
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.booking.application.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-to-end booking load test over real HTTP on an in-memory H2.
+ *
+ * 1. Admin creates SLOTS slots, USERS users register + log in via /api/auth
+ * 2. Race: every user books (user i → slot i % SLOTS) at the same instant
+ * 3. Churn: holders cancel while everyone else retries, CHURN_ROUNDS times
+ * 4. Settle: users without a booking try once more
+ *
+ * Latencies go into HdrHistograms (µs). Afterwards every slot must have
+ * exactly ONE active booking and be BOOKED.
+ *
+ * Not part of the default build → run with: mvn test -Pperf
+ * Size with -Dload.users=1000 -Dload.slots=50 -Dload.churn-rounds=3
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"prod", "test"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-harness;LOCK_TIMEOUT=30000",
+        // every simulated user logs in from 127.0.0.1
+        "security.login.rate-limit.enabled=false",
+        "security.password.hashing.queue-capacity=10000",
+        "security.password.hashing.timeout-ms=600000"
+})
+class BookingLoadHarnessTest {
+
+    private static final int USERS = Integer.getInteger("load.users", 1000);
+    private static final int SLOTS = Integer.getInteger("load.slots", 50);
+    private static final int CHURN_ROUNDS = Integer.getInteger("load.churn-rounds", 3);
+
+    // registration / login are bcrypt bound → no point in more threads than that
+    private static final int SETUP_THREADS = 16;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private final Histogram bookLatency = new ConcurrentHistogram(3);
+    private final Histogram cancelLatency = new ConcurrentHistogram(3);
+
+    private final AtomicInteger booked = new AtomicInteger();
+    private final AtomicInteger conflicts = new AtomicInteger();
+    private final AtomicInteger cancelled = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    // user index → id of the booking the user currently holds
+    private final Map<Integer, Long> holders = new ConcurrentHashMap<>();
+
+    @Test
+    void usersRaceForSlots() throws Exception {
+
+        // ================= SETUP =================
+        String adminToken = login("admin@gmail.com", "Admin@123");
+        List<Long> slotIds = createSlots(adminToken);
+
+        long setupStart = System.nanoTime();
+        List<String> tokens = registerAndLoginUsers();
+        System.out.printf("setup: %d users registered + logged in in %d ms%n",
+                USERS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - setupStart));
+
+        // ================= RACE =================
+        long raceMs = phase(i -> book(i, tokens.get(i), slotIds.get(i % SLOTS)));
+        System.out.printf("race: %d booking attempts in %d ms -> %d req/s, %d booked%n",
+                USERS, raceMs, USERS * 1000L / Math.max(1, raceMs), booked.get());
+        assertEquals(SLOTS, booked.get());
+
+        // ================= CHURN =================
+        for (int round = 1; round <= CHURN_ROUNDS; round++) {
+            Map<Integer, Long> cancelling = new HashMap<>(holders);
+            long ms = phase(i -> cancelling.containsKey(i)
+                    ? cancel(i, tokens.get(i), cancelling.get(i))
+                    : book(i, tokens.get(i), slotIds.get(i % SLOTS)));
+            System.out.printf("churn %d: %d cancels + %d booking attempts in %d ms%n",
+                    round, cancelling.size(), USERS - cancelling.size(), ms);
+        }
+
+        // ================= SETTLE =================
+        phase(i -> holders.containsKey(i) ? null : book(i, tokens.get(i), slotIds.get(i % SLOTS)));
+
+        // ================= REPORT =================
+        print("book", bookLatency);
+        print("cancel", cancelLatency);
+        System.out.printf("totals: booked=%d conflicts=%d cancelled=%d errors=%d%n",
+                booked.get(), conflicts.get(), cancelled.get(), errors.get());
+
+        // ================= INVARIANT =================
+        assertEquals(0, errors.get());
+        assertEquals(SLOTS, holders.size());
+
+        Map<Long, Integer> activePerSlot = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT slot_id, COUNT(*) FROM bookings WHERE status = 'ACTIVE' GROUP BY slot_id",
+                rs -> { activePerSlot.put(rs.getLong(1), rs.getInt(2)); });
+
+        for (Long slotId : slotIds) {
+            assertEquals(1, activePerSlot.getOrDefault(slotId, 0),
+                    "active bookings for slot " + slotId);
+            assertEquals("BOOKED", jdbcTemplate.queryForObject(
+                    "SELECT status FROM slots WHERE id = ?", String.class, slotId));
+        }
+    }
+
+    // ================= PHASES =================
+
+    private interface UserAction {
+        Void run(int userIndex) throws Exception;
+    }
+
+    /**
+     * Runs the action for every user at the same instant, returns wall time (ms).
+     */
+    private long phase(UserAction action) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(USERS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+
+        for (int i = 0; i < USERS; i++) {
+            int user = i;
+            futures.add(pool.submit(() -> {
+                go.await();
+                return action.run(user);
+            }));
+        }
+
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<Void> f : futures) {
+            f.get();
+        }
+        long ms = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        pool.shutdown();
+        return ms;
+    }
+
+    private Void book(int user, String token, Long slotId) throws Exception {
+        long t0 = System.nanoTime();
+        HttpResponse<String> response = send(post("/api/bookings?slotId=" + slotId, token, null));
+        bookLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - t0));
+
+        if (response.statusCode() == 200) {
+            booked.incrementAndGet();
+            holders.put(user, objectMapper.readTree(response.body())
+                    .path("data").path("bookingId").asLong());
+        } else if (response.statusCode() == 409) {
+            conflicts.incrementAndGet();
+        } else {
+            errors.incrementAndGet();
+        }
+        return null;
+    }
+
+    private Void cancel(int user, String token, Long bookingId) throws Exception {
+        long t0 = System.nanoTime();
+        HttpResponse<String> response = send(post("/api/bookings/" + bookingId + "/cancel", token, null));
+        cancelLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - t0));
+
+        if (response.statusCode() == 200) {
+            cancelled.incrementAndGet();
+            holders.remove(user);
+        } else {
+            errors.incrementAndGet();
+        }
+        return null;
+    }
+
+    // ================= FIXTURES =================
+
+    private List<Long> createSlots(String adminToken) throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusYears(5).withHour(8).withMinute(0).withSecond(0).withNano(0);
+        List<Map<String, String>> slots = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            LocalDateTime s = start.plusMinutes(15L * i);
+            slots.add(Map.of("startTime", s.toString(), "endTime", s.plusMinutes(15).toString()));
+        }
+
+        HttpResponse<String> response = send(post("/api/slots/bulk", adminToken,
+                objectMapper.writeValueAsString(Map.of("slots", slots))));
+        assertEquals(200, response.statusCode(), response.body());
+
+        List<Long> ids = new ArrayList<>();
+        objectMapper.readTree(response.body()).path("data")
+                .forEach(slot -> ids.add(slot.path("id").asLong()));
+        return ids;
+    }
+
+    private List<String> registerAndLoginUsers() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(SETUP_THREADS);
+        List<Future<String>> futures = new ArrayList<>();
+
+        for (int i = 0; i < USERS; i++) {
+            String email = "load-" + i + "@test.com";
+            Callable<String> setup = () -> {
+                HttpResponse<String> registered = send(post("/api/auth/register", null,
+                        objectMapper.writeValueAsString(Map.of(
+                                "name", "Load User", "email", email, "password", "secret1"))));
+                assertEquals(200, registered.statusCode(), registered.body());
+                return login(email, "secret1");
+            };
+            futures.add(pool.submit(setup));
+        }
+
+        List<String> tokens = new ArrayList<>(USERS);
+        for (Future<String> f : futures) {
+            tokens.add(f.get());
+        }
+        pool.shutdown();
+        return tokens;
+    }
+
+    private String login(String email, String password) throws Exception {
+        HttpResponse<String> response = send(post("/api/auth/login", null,
+                objectMapper.writeValueAsString(Map.of("email", email, "password", password))));
+        assertEquals(200, response.statusCode(), response.body());
+
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.path("data").path("token").asText();
+    }
+
+    // ================= HTTP =================
+
+    private HttpRequest post(String path, String token, String json) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .POST(json == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(json));
+        if (json != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void print(String label, Histogram h) {
+        System.out.printf("%-7s n=%d  p50=%.2fms p90=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms%n",
+                label, h.getTotalCount(),
+                h.getValueAtPercentile(50) / 1000.0,
+                h.getValueAtPercentile(90) / 1000.0,
+                h.getValueAtPercentile(99) / 1000.0,
+                h.getValueAtPercentile(99.9) / 1000.0,
+                h.getMaxValue() / 1000.0);
+    }
+}
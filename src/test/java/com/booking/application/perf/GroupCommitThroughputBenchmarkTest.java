@@ -0,0 +1,150 @@
+package com.booking.application.perf;
+
+import com.booking.application.entity.Slot;
+import com.booking.application.entity.User;
+import com.booking.application.enums.Role;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.repository.UserRepository;
+import com.booking.application.security.CustomUserDetails;
+import com.booking.application.service.BookingService;
+import com.booking.application.service.impl.BookingServiceImpl;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput benchmark: many users book DISTINCT slots at the same time.
+ * Compares one transaction per booking with the group-commit pipeline.
+ *
+ * Not part of the default build → run with: mvn test -Pperf
+ */
+@Tag("perf")
+@SpringBootTest
+@ActiveProfiles({"prod", "test"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:throughput;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "booking.group-commit.enabled=true",
+        "booking.group-commit.max-batch=64",
+        "booking.group-commit.max-wait-ms=5"
+})
+class GroupCommitThroughputBenchmarkTest {
+
+    private static final int THREADS = 64;
+    private static final int BOOKINGS_PER_THREAD = 100;
+
+    // one transaction per booking
+    @Autowired
+    private BookingServiceImpl directService;
+
+    // @Primary → admission gate + group-commit pipeline
+    @Autowired
+    private BookingService groupCommitService;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private LocalDateTime nextStart = LocalDateTime.now().plusYears(2).withNano(0);
+
+    @Test
+    void compareDirectAndGroupCommit() throws Exception {
+        List<User> users = createUsers();
+
+        run("warm-up direct", directService, users);
+        run("warm-up group-commit", groupCommitService, users);
+
+        System.out.println(run("direct", directService, users));
+        System.out.println(run("group-commit", groupCommitService, users));
+    }
+
+    private String run(String label, BookingService service, List<User> users) throws Exception {
+        List<Long> slotIds = createSlots(THREADS * BOOKINGS_PER_THREAD);
+        AtomicInteger booked = new AtomicInteger();
+        CountDownLatch go = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            User user = users.get(t);
+            List<Long> mine = slotIds.subList(t * BOOKINGS_PER_THREAD, (t + 1) * BOOKINGS_PER_THREAD);
+
+            futures.add(pool.submit(() -> {
+                CustomUserDetails principal = new CustomUserDetails(user);
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                principal, null, principal.getAuthorities()));
+                try {
+                    go.await();
+                    for (Long slotId : mine) {
+                        service.bookSlot(slotId);
+                        booked.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        go.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        pool.shutdown();
+
+        assertEquals(slotIds.size(), booked.get());
+        return String.format("%-22s bookings=%d wall=%dms throughput=%d bookings/s",
+                label, booked.get(), elapsedMs, booked.get() * 1000L / elapsedMs);
+    }
+
+    // ================= FIXTURES =================
+
+    private List<User> createUsers() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            users.add(User.builder()
+                    .name("Throughput " + i)
+                    .email("tp-" + i + "@test.com")
+                    .password("n/a")
+                    .role(Role.ROLE_USER)
+                    .build());
+        }
+        return userRepository.saveAll(users);
+    }
+
+    private List<Long> createSlots(int count) {
+        List<Slot> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            slots.add(Slot.builder()
+                    .startTime(nextStart)
+                    .endTime(nextStart.plusMinutes(30))
+                    .status(SlotStatus.AVAILABLE)
+                    .build());
+            nextStart = nextStart.plusMinutes(30);
+        }
+        return slotRepository.saveAll(slots).stream().map(Slot::getId).toList();
+    }
+}
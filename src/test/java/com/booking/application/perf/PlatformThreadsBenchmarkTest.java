@@ -0,0 +1,27 @@
+package com.booking.application.perf;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * HTTP load on the default Tomcat platform-thread pool.
+ *
+ * Not part of the default build → run with: mvn test -Pperf
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"prod", "test"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:platform-threads;LOCK_TIMEOUT=30000",
+        "spring.threads.virtual.enabled=false"
+})
+class PlatformThreadsBenchmarkTest extends AbstractRequestThreadingBenchmark {
+
+    @Test
+    void platformThreads() throws Exception {
+        System.out.println(runLoad("platform"));
+    }
+}
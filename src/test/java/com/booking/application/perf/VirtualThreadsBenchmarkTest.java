@@ -0,0 +1,31 @@
+package com.booking.application.perf;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Same HTTP load as {@link PlatformThreadsBenchmarkTest} with request
+ * handling on virtual threads. Skipped below Java 21.
+ *
+ * Not part of the default build → run with: mvn test -Pperf
+ */
+@Tag("perf")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"prod", "test"})
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtual-threads;LOCK_TIMEOUT=30000",
+        "spring.threads.virtual.enabled=true"
+})
+class VirtualThreadsBenchmarkTest extends AbstractRequestThreadingBenchmark {
+
+    @Test
+    void virtualThreads() throws Exception {
+        System.out.println(runLoad("virtual"));
+    }
+}
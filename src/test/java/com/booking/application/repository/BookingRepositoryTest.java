@@ -0,0 +1,294 @@
+package com.booking.application.repository;
+
+import com.booking.application.dtos.response.BookingDetailsResponse;
+import com.booking.application.dtos.response.CursorPage;
+import com.booking.application.entity.Booking;
+import com.booking.application.entity.Slot;
+import com.booking.application.entity.User;
+import com.booking.application.enums.BookingStatus;
+import com.booking.application.enums.Role;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.outbox.OutboxWriter;
+import com.booking.application.security.PasswordEncoders;
+import com.booking.application.service.impl.BookingServiceImpl;
+import com.booking.application.tracing.RequestTracer;
+import com.booking.application.utils.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+
+/**
+ * Keyset listings (findPageForUser and the admin findPage* queries)
+ * against H2, driven through the service so the limit + 1 / cursor
+ * handling and the choice of query per filter are covered as well.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+class BookingRepositoryTest {
+
+    // BookingApplication's admin seeder needs an encoder; the slice has none
+    @TestConfiguration
+    static class EncoderConfig {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return PasswordEncoders.create("bcrypt", 4, 1000);
+        }
+    }
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2030, 1, 1, 9, 0);
+    private static final LocalDateTime T2 = T1.plusHours(1);
+    private static final LocalDateTime T3 = T1.plusHours(2);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private BookingServiceImpl bookingService;
+
+    private User alice;
+    private User bob;
+
+    // every booking, newest first (createdAt DESC, id DESC)
+    private final List<Booking> all = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        bookingService = new BookingServiceImpl(
+                mock(SlotRepository.class), bookingRepository, mock(UserRepository.class),
+                mock(ApplicationEventPublisher.class),
+                new OperationMetrics(new SimpleMeterRegistry(), new RequestTracer()),
+                mock(OutboxWriter.class));
+
+        alice = user("alice@test.com");
+        bob = user("bob@test.com");
+
+        // ties: 3 bookings at T1, 4 at T2 (both users mixed), 1 at T3
+        book(alice, T1, BookingStatus.ACTIVE);
+        book(bob, T1, BookingStatus.ACTIVE);
+        book(alice, T1, BookingStatus.CANCELED);
+        book(alice, T2, BookingStatus.ACTIVE);
+        book(bob, T2, BookingStatus.CANCELED);
+        book(alice, T2, BookingStatus.ACTIVE);
+        book(alice, T2, BookingStatus.ACTIVE);
+        book(alice, T3, BookingStatus.ACTIVE);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        all.sort(Comparator.comparing(Booking::getCreatedAt)
+                .thenComparing(Booking::getId)
+                .reversed());
+    }
+
+    private User user(String email) {
+        return entityManager.persist(User.builder()
+                .name(email)
+                .email(email)
+                .password("n/a")
+                .role(Role.ROLE_USER)
+                .build());
+    }
+
+    private void book(User owner, LocalDateTime createdAt, BookingStatus status) {
+        LocalDateTime start = createdAt.plusDays(all.size() + 1);
+        Slot slot = entityManager.persist(Slot.builder()
+                .startTime(start)
+                .endTime(start.plusMinutes(30))
+                .status(status == BookingStatus.ACTIVE ? SlotStatus.BOOKED : SlotStatus.AVAILABLE)
+                .build());
+
+        all.add(entityManager.persist(Booking.builder()
+                .user(owner)
+                .slot(slot)
+                .status(status)
+                .createdAt(createdAt)
+                .build()));
+    }
+
+    private List<Long> expectedIds(User owner) {
+        return all.stream()
+                .filter(b -> owner == null || b.getUser().getId().equals(owner.getId()))
+                .map(Booking::getId)
+                .toList();
+    }
+
+    // Follows nextCursor to the end, collecting every page
+    private List<List<BookingDetailsResponse>> pages(
+            Function<String, CursorPage<BookingDetailsResponse>> fetch) {
+
+        List<List<BookingDetailsResponse>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            // a cursor that does not advance would page forever
+            assertTrue(pages.size() <= all.size(), "cursor is not advancing");
+            CursorPage<BookingDetailsResponse> page = fetch.apply(cursor);
+            pages.add(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+
+    private static List<Long> ids(List<List<BookingDetailsResponse>> pages) {
+        return pages.stream().flatMap(List::stream).map(BookingDetailsResponse::getBookingId).toList();
+    }
+
+    private <T> T asUser(User user, Supplier<T> call) {
+        try (MockedStatic<SecurityUtils> mocked = mockStatic(SecurityUtils.class)) {
+            mocked.when(SecurityUtils::getCurrentUserId).thenReturn(user.getId());
+            return call.get();
+        }
+    }
+
+    // ================= MY BOOKINGS =================
+
+    @Test
+    void myBookings_pagesAcrossCreatedAtTies_withoutSkipsOrDuplicates() {
+        List<List<BookingDetailsResponse>> pages = asUser(alice, () -> pages(cursor ->
+                bookingService.getMyBookings(null, null, null, cursor, 2)));
+
+        List<Long> ids = ids(pages);
+
+        // 6 bookings, 2 per page; page breaks fall inside the T1 / T2 ties
+        assertEquals(expectedIds(alice), ids);
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        assertEquals(3, pages.size());
+
+        // own listing carries no user fields
+        pages.get(0).forEach(row -> assertNull(row.getUserEmail()));
+    }
+
+    @Test
+    void myBookings_pageOfExactlyLimitRows_hasNoNextCursor() {
+        // 6 rows: limit 6 fetches 7 → none extra, limit 5 → one extra
+        CursorPage<BookingDetailsResponse> exact = asUser(alice, () ->
+                bookingService.getMyBookings(null, null, null, null, 6));
+        CursorPage<BookingDetailsResponse> short1 = asUser(alice, () ->
+                bookingService.getMyBookings(null, null, null, null, 5));
+
+        assertEquals(6, exact.getItems().size());
+        assertNull(exact.getNextCursor());
+
+        assertEquals(5, short1.getItems().size());
+        assertNotNull(short1.getNextCursor());
+        CursorPage<BookingDetailsResponse> rest = asUser(alice, () ->
+                bookingService.getMyBookings(null, null, null, short1.getNextCursor(), 5));
+        assertEquals(List.of(expectedIds(alice).get(5)),
+                rest.getItems().stream().map(BookingDetailsResponse::getBookingId).toList());
+        assertNull(rest.getNextCursor());
+    }
+
+    @Test
+    void myBookings_toIsExclusive_fromIsInclusive_onEveryPage() {
+        // [T1, T2) → only alice's two T1 bookings, paged one by one
+        List<Long> ids = ids(asUser(alice, () -> pages(cursor ->
+                bookingService.getMyBookings(null, T1, T2, cursor, 1))));
+
+        List<Long> expected = all.stream()
+                .filter(b -> b.getUser().getId().equals(alice.getId()))
+                .filter(b -> b.getCreatedAt().equals(T1))
+                .map(Booking::getId)
+                .toList();
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void myBookings_statusFilter_appliesAcrossPages() {
+        List<Long> ids = ids(asUser(alice, () -> pages(cursor ->
+                bookingService.getMyBookings(BookingStatus.ACTIVE, null, null, cursor, 2))));
+
+        List<Long> expected = all.stream()
+                .filter(b -> b.getUser().getId().equals(alice.getId()))
+                .filter(b -> b.getStatus() == BookingStatus.ACTIVE)
+                .map(Booking::getId)
+                .toList();
+        assertEquals(expected, ids);
+    }
+
+    // ================= ADMIN LISTING =================
+
+    @Test
+    void adminListing_joinsOwner_andPagesAcrossUsersWithTies() {
+        List<List<BookingDetailsResponse>> pages = pages(cursor ->
+                bookingService.getBookings(null, null, null, null, null, cursor, 3));
+
+        List<Long> ids = ids(pages);
+        assertEquals(expectedIds(null), ids);
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+
+        // owner joined in the same query
+        pages.stream().flatMap(List::stream).forEach(row -> {
+            Booking booking = all.stream()
+                    .filter(b -> b.getId().equals(row.getBookingId()))
+                    .findFirst().orElseThrow();
+            assertEquals(booking.getUser().getId(), row.getUserId());
+            assertEquals(booking.getUser().getEmail(), row.getUserEmail());
+            assertEquals(booking.getSlot().getId(), row.getSlotId());
+        });
+    }
+
+    @Test
+    void adminListing_filtersByUserAndSlot() {
+        List<Long> bobs = ids(pages(cursor ->
+                bookingService.getBookings(bob.getId(), null, null, null, null, cursor, 1)));
+        assertEquals(expectedIds(bob), bobs);
+
+        Booking newest = all.get(0);
+        CursorPage<BookingDetailsResponse> bySlot = bookingService.getBookings(
+                null, newest.getSlot().getId(), null, null, null, null, 10);
+        assertEquals(List.of(newest.getId()),
+                bySlot.getItems().stream().map(BookingDetailsResponse::getBookingId).toList());
+    }
+
+    @Test
+    void adminListing_slotAndUserTogether_andFromBound() {
+        Booking newest = all.get(0);
+        Long slotId = newest.getSlot().getId();
+
+        // slot filter narrowed by its owner / someone else
+        assertEquals(List.of(newest.getId()), ids(pages(cursor ->
+                bookingService.getBookings(alice.getId(), slotId, null, null, null, cursor, 10))));
+        assertTrue(ids(pages(cursor ->
+                bookingService.getBookings(bob.getId(), slotId, null, null, null, cursor, 10))).isEmpty());
+
+        // from T2 on, every user → the T2 and T3 rows
+        List<Long> expected = all.stream()
+                .filter(b -> !b.getCreatedAt().isBefore(T2))
+                .map(Booking::getId)
+                .toList();
+        assertEquals(expected, ids(pages(cursor ->
+                bookingService.getBookings(null, null, null, T2, null, cursor, 2))));
+    }
+
+    @Test
+    void adminListing_toBound_excludesRowsAtExactlyTo() {
+        // before T3 → everything but the single T3 booking
+        List<Long> ids = ids(pages(cursor ->
+                bookingService.getBookings(null, null, null, null, T3, cursor, 4)));
+
+        assertEquals(expectedIds(null).subList(1, all.size()), ids);
+    }
+}
@@ -0,0 +1,105 @@
+package com.booking.application.repository;
+
+import com.booking.application.entity.OutboxEvent;
+import com.booking.application.enums.OutboxEventType;
+import com.booking.application.enums.OutboxStatus;
+import com.booking.application.security.PasswordEncoders;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Claim / write-back queries against H2: a run whose lease ran out must
+ * not overwrite the result of the run that claimed the row after it.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+class OutboxEventRepositoryTest {
+
+    // BookingApplication's admin seeder needs an encoder; the slice has none
+    @TestConfiguration
+    static class EncoderConfig {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return PasswordEncoders.create("bcrypt", 4, 1000);
+        }
+    }
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private Long pendingEvent() {
+        Long id = entityManager.persistAndGetId(OutboxEvent.builder()
+                .type(OutboxEventType.BOOKING_CONFIRMED)
+                .aggregateId(1L)
+                .handler("mail")
+                .payload("{}")
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(NOW)
+                .createdAt(NOW)
+                .build(), Long.class);
+        entityManager.flush();
+        return id;
+    }
+
+    private OutboxEvent reload(Long id) {
+        entityManager.clear();
+        return entityManager.find(OutboxEvent.class, id);
+    }
+
+    @Test
+    void expiredClaim_cannotOverwriteTheNewClaimantsResult() {
+        Long id = pendingEvent();
+
+        // run A claims, its lease runs out, run B claims the row again
+        assertEquals(1, outboxEventRepository.claim(List.of(id), "run-a", NOW, NOW.plusMinutes(1)));
+        LocalDateTime later = NOW.plusMinutes(2);
+        assertEquals(1, outboxEventRepository.claim(List.of(id), "run-b", later, later.plusMinutes(1)));
+
+        // A finishes late: both write-backs miss
+        assertEquals(0, outboxEventRepository.markProcessed(List.of(id), "run-a", later));
+        assertEquals(0, outboxEventRepository.markFailed(id, "run-a", OutboxStatus.FAILED, later, "late"));
+
+        OutboxEvent stillB = reload(id);
+        assertEquals(OutboxStatus.PENDING, stillB.getStatus());
+        assertEquals("run-b", stillB.getClaimToken());
+        assertEquals(0, stillB.getAttempts());
+
+        // B owns it
+        assertEquals(1, outboxEventRepository.markProcessed(List.of(id), "run-b", later));
+        OutboxEvent done = reload(id);
+        assertEquals(OutboxStatus.PROCESSED, done.getStatus());
+        assertNull(done.getClaimToken());
+        assertEquals(1, done.getAttempts());
+    }
+
+    @Test
+    void markFailed_withCurrentClaim_reschedulesAndReleasesTheRow() {
+        Long id = pendingEvent();
+        outboxEventRepository.claim(List.of(id), "run-a", NOW, NOW.plusMinutes(1));
+
+        assertEquals(1, outboxEventRepository.markFailed(
+                id, "run-a", OutboxStatus.PENDING, NOW.plusSeconds(1), "smtp down"));
+
+        OutboxEvent retry = reload(id);
+        assertEquals(OutboxStatus.PENDING, retry.getStatus());
+        assertEquals(NOW.plusSeconds(1), retry.getNextAttemptAt());
+        assertEquals("smtp down", retry.getLastError());
+        assertNull(retry.getClaimToken());
+    }
+}
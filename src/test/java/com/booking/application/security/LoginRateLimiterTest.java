@@ -0,0 +1,44 @@
+package com.booking.application.security;
+
+import com.booking.application.exceptions.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    // 3 attempts per IP, 2 per email, refill too slow to matter in a test
+    private final LoginRateLimiter limiter = new LoginRateLimiter(true, 3, 1, 2, 1, 1000);
+
+    @Test
+    void emailBucket_runsDry_thenRejectsWithRetryAfter() {
+        limiter.acquire("a@test.com", "10.0.0.1");
+        limiter.acquire("a@test.com", "10.0.0.2");
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> limiter.acquire("a@test.com", "10.0.0.3"));
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+
+        // other accounts are unaffected
+        limiter.acquire("b@test.com", "10.0.0.3");
+    }
+
+    @Test
+    void ipBucket_limitsSprayingManyEmails() {
+        limiter.acquire("a@test.com", "10.0.0.1");
+        limiter.acquire("b@test.com", "10.0.0.1");
+        limiter.acquire("c@test.com", "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class,
+                () -> limiter.acquire("d@test.com", "10.0.0.1"));
+    }
+
+    @Test
+    void successfulLogin_refillsTheEmailBucket() {
+        limiter.acquire("a@test.com", "10.0.0.1");
+        limiter.acquire("a@test.com", "10.0.0.2");
+        limiter.onSuccess("a@test.com");
+
+        limiter.acquire("a@test.com", "10.0.0.3");
+    }
+}
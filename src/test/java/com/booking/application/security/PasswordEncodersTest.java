@@ -0,0 +1,41 @@
+package com.booking.application.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordEncodersTest {
+
+    // low costs keep the test fast
+    private final PasswordEncoder encoder = PasswordEncoders.create("bcrypt", 5, 1000);
+
+    @Test
+    void legacyUnprefixedHash_stillMatches_andIsUpgraded() {
+        String legacy = new BCryptPasswordEncoder(5).encode("secret1");
+
+        assertTrue(encoder.matches("secret1", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+    }
+
+    @Test
+    void lowerStrengthOrOtherAlgorithm_isUpgraded_currentIsNot() {
+        String weaker = PasswordEncoders.create("bcrypt", 4, 1000).encode("secret1");
+        String pbkdf2 = PasswordEncoders.create("pbkdf2", 5, 1000).encode("secret1");
+        String current = encoder.encode("secret1");
+
+        assertTrue(current.startsWith("{bcrypt}"));
+        assertTrue(encoder.matches("secret1", pbkdf2));
+
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertTrue(encoder.upgradeEncoding(pbkdf2));
+        assertFalse(encoder.upgradeEncoding(current));
+    }
+
+    @Test
+    void unknownAlgorithm_isRejectedAtStartup() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PasswordEncoders.create("md5", 10, 1000));
+    }
+}
@@ -0,0 +1,161 @@
+package com.booking.application.security.jwt;
+
+import com.booking.application.enums.Role;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.security.CustomUserDetails;
+import com.booking.application.security.UserState;
+import com.booking.application.security.UserStateCache;
+import com.booking.application.tracing.RequestTracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private StreamTicketStore streamTicketStore;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserStateCache userStateCache;
+
+    @Spy
+    private RequestTracer tracer = new RequestTracer();
+
+    @Spy
+    private OperationMetrics metrics = new OperationMetrics(new SimpleMeterRegistry(), tracer);
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    private MockHttpServletRequest request;
+    private VerifiedToken verified;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/slots");
+        request.setServletPath("/api/slots");
+        request.addHeader("Authorization", "Bearer token");
+
+        verified = new VerifiedToken(
+                "test@gmail.com", 7L, "ROLE_USER", 2,
+                Instant.now().plusSeconds(60));
+
+        lenient().when(verifiedTokenCache.verify("token"))
+                .thenReturn(Optional.of(verified));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessMode_authenticatesFromClaims_withoutLoadingUser() throws Exception {
+        when(userStateCache.get(7L)).thenReturn(new UserState(Role.ROLE_USER, 2));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        CustomUserDetails principal = (CustomUserDetails) auth.getPrincipal();
+
+        assertEquals("test@gmail.com", auth.getName());
+        assertEquals(7L, principal.getUserId());
+        assertEquals("ROLE_USER", principal.getRole());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        // kept on the request for the ASYNC re-dispatch of streaming responses
+        assertTrue(JwtAuthenticationFilter.CONTEXT_REPOSITORY.containsContext(request));
+        // and the verified token for issuing stream tickets
+        assertEquals(verified, request.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTRIBUTE));
+    }
+
+    // ================= STREAM TICKETS =================
+
+    private static MockHttpServletRequest streamRequest(String path, String param, String value) {
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", path);
+        stream.setServletPath(path);
+        stream.setParameter(param, value);
+        return stream;
+    }
+
+    @Test
+    void slotStream_authenticatesWithTicket() throws Exception {
+        when(streamTicketStore.redeem("ticket")).thenReturn(Optional.of(verified));
+        when(userStateCache.get(7L)).thenReturn(new UserState(Role.ROLE_USER, 2));
+
+        filter.doFilter(streamRequest("/api/slots/stream", "ticket", "ticket"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals("test@gmail.com",
+                SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    void ticket_isIgnoredOutsideTheSlotStream() throws Exception {
+        filter.doFilter(streamRequest("/api/bookings", "ticket", "ticket"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(streamTicketStore, never()).redeem(anyString());
+    }
+
+    @Test
+    void slotStream_rejectsJwtInTheUrl() throws Exception {
+        filter.doFilter(streamRequest("/api/slots/stream", "access_token", "token"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(verifiedTokenCache, never()).verify(anyString());
+    }
+
+    @Test
+    void statelessMode_rejectsRevokedToken() throws Exception {
+        when(userStateCache.get(7L)).thenReturn(new UserState(Role.ROLE_USER, 3));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void statelessMode_usesCurrentRole_afterRoleChange() throws Exception {
+        when(userStateCache.get(7L)).thenReturn(new UserState(Role.ROLE_ADMIN, 2));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        CustomUserDetails principal = (CustomUserDetails)
+                SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+
+        assertEquals("ROLE_ADMIN", principal.getRole());
+    }
+}
@@ -0,0 +1,63 @@
+package com.booking.application.security.jwt;
+
+import com.booking.application.entity.User;
+import com.booking.application.enums.Role;
+import com.booking.application.security.CustomUserDetails;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret",
+                "testsecretkeytestsecretkeytestsecretkey123456");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationInMs", 60_000L);
+        jwtTokenProvider.init();
+
+        userDetails = new CustomUserDetails(User.builder()
+                .id(7L)
+                .email("test@gmail.com")
+                .role(Role.ROLE_USER)
+                .build());
+    }
+
+    @Test
+    void parseVerifiedClaims_returnsClaims_forValidToken() {
+        String token = jwtTokenProvider.generateToken(userDetails);
+
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(token).orElseThrow();
+
+        assertEquals("test@gmail.com", claims.getSubject());
+        assertEquals("ROLE_USER", claims.get("role", String.class));
+        assertEquals(7L, claims.get("userId", Long.class));
+    }
+
+    @Test
+    void parseVerifiedClaims_isEmpty_forTamperedToken() {
+        String token = jwtTokenProvider.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertTrue(jwtTokenProvider.parseVerifiedClaims(tampered).isEmpty());
+        assertFalse(jwtTokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    void parseVerifiedClaims_isEmpty_forExpiredToken() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationInMs", -1_000L);
+        String token = jwtTokenProvider.generateToken(userDetails);
+
+        assertTrue(jwtTokenProvider.parseVerifiedClaims(token).isEmpty());
+    }
+}
@@ -0,0 +1,53 @@
+package com.booking.application.security.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamTicketStoreTest {
+
+    private final VerifiedToken token = new VerifiedToken(
+            "test@gmail.com", 7L, "ROLE_USER", 2, Instant.now().plusSeconds(3600));
+
+    @Test
+    void ticket_isRedeemedOnce() {
+        StreamTicketStore store = new StreamTicketStore(30, 100);
+
+        String ticket = store.issue(token);
+
+        assertEquals(token, store.redeem(ticket).orElseThrow());
+        assertTrue(store.redeem(ticket).isEmpty());
+    }
+
+    @Test
+    void tickets_areRandom_andUnknownOnesAreRejected() {
+        StreamTicketStore store = new StreamTicketStore(30, 100);
+
+        assertNotEquals(store.issue(token), store.issue(token));
+        assertTrue(store.redeem("made-up").isEmpty());
+    }
+
+    @Test
+    void expiredTicket_isRejected() {
+        StreamTicketStore store = new StreamTicketStore(0, 100);
+
+        String ticket = store.issue(token);
+
+        assertTrue(store.redeem(ticket).isEmpty());
+    }
+
+    @Test
+    void ticket_ofAnExpiredJwt_isRejected() {
+        StreamTicketStore store = new StreamTicketStore(30, 100);
+        VerifiedToken expired = new VerifiedToken(
+                "test@gmail.com", 7L, "ROLE_USER", 2, Instant.now().minusSeconds(1));
+
+        String ticket = store.issue(expired);
+
+        assertTrue(store.redeem(ticket).isEmpty());
+    }
+}
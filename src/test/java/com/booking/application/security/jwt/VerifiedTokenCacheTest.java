@@ -0,0 +1,53 @@
+package com.booking.application.security.jwt;
+
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    void verify_parsesOnce_andServesRepeatsFromCache() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, true, 100, 300);
+
+        DefaultClaims claims = new DefaultClaims(Map.of("sub", "test@gmail.com", "userId", 7L));
+        claims.setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        when(jwtTokenProvider.parseVerifiedClaims("token")).thenReturn(Optional.of(claims));
+
+        cache.verify("token");
+        VerifiedToken second = cache.verify("token").orElseThrow();
+
+        assertEquals("test@gmail.com", second.subject());
+        assertEquals(7L, second.userId());
+        assertEquals(1, cache.stats().hitCount());
+        verify(jwtTokenProvider, times(1)).parseVerifiedClaims("token");
+    }
+
+    @Test
+    void verify_doesNotCacheInvalidTokens() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtTokenProvider, true, 100, 300);
+
+        when(jwtTokenProvider.parseVerifiedClaims("bad")).thenReturn(Optional.empty());
+
+        assertTrue(cache.verify("bad").isEmpty());
+        assertTrue(cache.verify("bad").isEmpty());
+        verify(jwtTokenProvider, times(2)).parseVerifiedClaims("bad");
+    }
+}
@@ -0,0 +1,78 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.cache.SlotClaimArbiter;
+import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.exceptions.ServiceUnavailableException;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.tracing.RequestTracer;
+import com.booking.application.utils.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlledBookingServiceTest {
+
+    @Mock
+    private BookingServiceImpl delegate;
+
+    @Mock
+    private GroupCommitBookingPipeline groupCommit;
+
+    private final SlotClaimArbiter arbiter = new SlotClaimArbiter(30);
+
+    private AdmissionControlledBookingService bookingService;
+
+    private MockedStatic<SecurityUtils> securityUtils;
+
+    @BeforeEach
+    void setUp() {
+        bookingService = new AdmissionControlledBookingService(delegate, arbiter, groupCommit,
+                new OperationMetrics(new SimpleMeterRegistry(), new RequestTracer()));
+
+        securityUtils = mockStatic(SecurityUtils.class);
+        securityUtils.when(SecurityUtils::getCurrentUserId).thenReturn(1L);
+
+        when(groupCommit.isEnabled()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        securityUtils.close();
+    }
+
+    @Test
+    void groupCommit_notSettledInTime_gives503_cancelsRequest_andReleasesClaim() {
+        CompletableFuture<BookingResponse> stuck = new CompletableFuture<>();
+        when(groupCommit.submit(1L, 5L)).thenReturn(stuck);
+        when(groupCommit.getResultTimeout()).thenReturn(Duration.ofMillis(20));
+
+        assertThrows(ServiceUnavailableException.class, () -> bookingService.bookSlot(5L));
+
+        // still queued → the worker skips it
+        assertTrue(stuck.isCancelled());
+        // not known to be booked → next request goes to the database
+        assertNotNull(arbiter.tryAcquire(5L));
+    }
+
+    @Test
+    void groupCommit_notAccepting_booksInOwnTransaction() {
+        BookingResponse response = BookingResponse.builder().slotId(5L).build();
+        when(groupCommit.submit(1L, 5L)).thenReturn(null);
+        when(delegate.bookSlot(5L)).thenReturn(response);
+
+        assertSame(response, bookingService.bookSlot(5L));
+    }
+}
@@ -0,0 +1,305 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.dtos.request.LoginRequest;
+import com.booking.application.dtos.response.AuthResponse;
+import com.booking.application.entity.User;
+import com.booking.application.enums.Role;
+import com.booking.application.exceptions.ApiErrorResponse;
+import com.booking.application.exceptions.GlobalExceptionHandler;
+import com.booking.application.exceptions.TooManyRequestsException;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.repository.UserRepository;
+import com.booking.application.security.LoginRateLimiter;
+import com.booking.application.security.PasswordEncoders;
+import com.booking.application.security.PasswordHashingExecutor;
+import com.booking.application.security.UserStateCache;
+import com.booking.application.security.jwt.JwtTokenProvider;
+import com.booking.application.tracing.RequestTracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceImplTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final String PASSWORD = "secret-pw";
+    private static final String IP = "10.0.0.1";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserStateCache userStateCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OperationMetrics metrics = new OperationMetrics(meterRegistry, new RequestTracer());
+
+    // real encoder (cost 4 keeps it fast), spied to see what was hashed
+    private final PasswordEncoder passwordEncoder = spy(PasswordEncoders.create("bcrypt", 4, 1000));
+
+    // 2 attempts per email, refill too slow to matter in a test
+    private final LoginRateLimiter loginRateLimiter = new LoginRateLimiter(true, 100, 1, 2, 1, 1000);
+
+    private PasswordHashingExecutor hashingExecutor;
+    private AuthServiceImpl authService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        hashingExecutor = new PasswordHashingExecutor(1, 1, 5000, metrics);
+        authService = service(passwordEncoder, hashingExecutor);
+
+        user = User.builder()
+                .id(1L)
+                .name("User")
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(Role.ROLE_USER)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.destroy();
+    }
+
+    private AuthServiceImpl service(PasswordEncoder encoder, PasswordHashingExecutor executor) {
+        return new AuthServiceImpl(userRepository, encoder, jwtTokenProvider,
+                userStateCache, metrics, loginRateLimiter, executor);
+    }
+
+    private static LoginRequest login(String email, String password) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(email);
+        request.setPassword(password);
+        return request;
+    }
+
+    private double rehashes(String result) {
+        return meterRegistry.counter(OperationMetrics.AUTH_PASSWORD_REHASH, "result", result).count();
+    }
+
+    private double attempts(String result) {
+        return meterRegistry.counter(OperationMetrics.AUTH_LOGIN_ATTEMPTS, "result", result).count();
+    }
+
+    // ================= LOGIN =================
+
+    @Test
+    void login_success_returnsToken() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(any())).thenReturn("jwt");
+
+        AuthResponse response = authService.login(login("User@Test.com", PASSWORD), IP);
+
+        assertEquals("jwt", response.getToken());
+        assertEquals(1.0, attempts("verified"));
+    }
+
+    @Test
+    void login_throttled_touchesNeitherDatabaseNorBcrypt() {
+        loginRateLimiter.acquire(EMAIL, IP);
+        loginRateLimiter.acquire(EMAIL, IP);
+
+        assertThrows(TooManyRequestsException.class,
+                () -> authService.login(login(EMAIL, PASSWORD), IP));
+
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(passwordEncoder, never()).matches(any(), any());
+        assertEquals(1.0, attempts("throttled"));
+    }
+
+    @Test
+    void login_unknownEmail_stillChecksThePasswordAgainstTheDummyHash() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class,
+                () -> authService.login(login(EMAIL, PASSWORD), IP));
+
+        // same BCrypt work as for a real account
+        verify(passwordEncoder).matches(eq(PASSWORD), anyString());
+        verify(jwtTokenProvider, never()).generateToken(any());
+        assertEquals(1.0, attempts("rejected"));
+    }
+
+    @Test
+    void login_wrongPassword_isRejected() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        BadCredentialsException ex = assertThrows(BadCredentialsException.class,
+                () -> authService.login(login(EMAIL, "wrong"), IP));
+
+        assertEquals("Invalid email or password", ex.getMessage());
+        verify(passwordEncoder).matches("wrong", user.getPassword());
+        verify(jwtTokenProvider, never()).generateToken(any());
+        assertEquals(1.0, attempts("rejected"));
+    }
+
+    @Test
+    void login_success_refillsTheEmailBucket() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(any())).thenReturn("jwt");
+
+        // mistype once, then succeed → the budget of 2 is back
+        assertThrows(BadCredentialsException.class,
+                () -> authService.login(login(EMAIL, "wrong"), IP));
+        authService.login(login(EMAIL, PASSWORD), IP);
+
+        authService.login(login(EMAIL, PASSWORD), IP);
+        authService.login(login(EMAIL, PASSWORD), IP);
+
+        verify(jwtTokenProvider, times(3)).generateToken(any());
+        assertEquals(0.0, attempts("throttled"));
+    }
+
+    @Test
+    void login_hashingPoolOverloaded_mapsTo429() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // 1 thread busy + 1 queued task → the next hash is rejected
+        CountDownLatch release = new CountDownLatch(1);
+        assertTrue(hashingExecutor.tryExecute(() -> awaitQuietly(release)));
+        assertTrue(hashingExecutor.tryExecute(() -> { }));
+
+        try {
+            TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                    () -> authService.login(login(EMAIL, PASSWORD), IP));
+
+            assertEquals(1.0, meterRegistry.counter(
+                    OperationMetrics.AUTH_PASSWORD_OVERLOAD, "reason", "rejected").count());
+
+            ResponseEntity<ApiErrorResponse> response = new GlobalExceptionHandler()
+                    .handleTooManyRequests(ex, new MockHttpServletRequest("POST", "/api/auth/login"));
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        } finally {
+            release.countDown();
+        }
+        verify(jwtTokenProvider, never()).generateToken(any());
+    }
+
+    // ================= REHASH =================
+
+    @Test
+    void login_unprefixedHash_isRehashedAgainstTheVerifiedOldHash() {
+        // stored before the {id} prefix existed
+        String legacy = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        user.setPassword(legacy);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(any())).thenReturn("jwt");
+        when(userRepository.updatePasswordHash(eq(1L), eq(legacy), anyString())).thenReturn(1);
+
+        authService.login(login(EMAIL, PASSWORD), IP);
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository, timeout(5000)).updatePasswordHash(eq(1L), eq(legacy), newHash.capture());
+        assertTrue(newHash.getValue().startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches(PASSWORD, newHash.getValue()));
+    }
+
+    @Test
+    void login_lowerCostHash_isRehashed_andAConcurrentChangeCountsAsStale() {
+        // cost 4 on record, encoder now configured for 5
+        PasswordEncoder stronger = PasswordEncoders.create("bcrypt", 5, 1000);
+        authService = service(stronger, hashingExecutor);
+
+        String weak = user.getPassword();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(any())).thenReturn("jwt");
+        // the password changed in between → guarded update hits no row
+        when(userRepository.updatePasswordHash(eq(1L), eq(weak), anyString())).thenReturn(0);
+
+        authService.login(login(EMAIL, PASSWORD), IP);
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository, timeout(5000)).updatePasswordHash(eq(1L), eq(weak), newHash.capture());
+        assertTrue(newHash.getValue().startsWith("{bcrypt}$2a$05$"));
+        awaitCount(() -> rehashes("stale"));
+        assertEquals(0.0, rehashes("upgraded"));
+    }
+
+    @Test
+    void login_currentHash_isNotRehashed() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(any())).thenReturn("jwt");
+
+        authService.login(login(EMAIL, PASSWORD), IP);
+
+        // the decision is made before login returns; nothing was queued
+        verify(userRepository, never()).updatePasswordHash(any(), any(), any());
+        assertEquals(0.0, rehashes("upgraded") + rehashes("deferred"));
+    }
+
+    @Test
+    void login_outdatedHash_withSaturatedPool_isDeferred() {
+        // verification still runs, background work is turned away
+        PasswordHashingExecutor saturated = mock(PasswordHashingExecutor.class);
+        when(saturated.call(any())).thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+        when(saturated.tryExecute(any())).thenReturn(false);
+        authService = service(passwordEncoder, saturated);
+
+        user.setPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(jwtTokenProvider.generateToken(any())).thenReturn("jwt");
+
+        AuthResponse response = authService.login(login(EMAIL, PASSWORD), IP);
+
+        // login is not held up; the next one tries again
+        assertEquals("jwt", response.getToken());
+        assertEquals(1.0, rehashes("deferred"));
+        verify(userRepository, never()).updatePasswordHash(any(), any(), any());
+    }
+
+    // counters of background tasks are bumped after the repository call
+    private static void awaitCount(DoubleSupplier count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count.getAsDouble() < 1.0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1.0, count.getAsDouble());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
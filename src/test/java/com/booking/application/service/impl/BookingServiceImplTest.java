@@ -4,26 +4,44 @@ import com.booking.application.dtos.response.BookingResponse;
 import com.booking.application.entity.Booking;
 import com.booking.application.entity.Slot;
 import com.booking.application.entity.User;
+import com.booking.application.enums.BookingLockStrategy;
 import com.booking.application.enums.BookingStatus;
+import com.booking.application.enums.OutboxEventType;
 import com.booking.application.enums.SlotStatus;
+import com.booking.application.events.SlotStatusChangedEvent;
 import com.booking.application.exceptions.CustomException;
+import com.booking.application.exceptions.SlotConflictException;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.outbox.BookingEventPayload;
+import com.booking.application.outbox.OutboxWriter;
+import com.booking.application.repository.BookingCancelTarget;
 import com.booking.application.repository.BookingRepository;
 import com.booking.application.repository.SlotRepository;
 import com.booking.application.repository.UserRepository;
+import com.booking.application.tracing.RequestTracer;
 import com.booking.application.utils.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +56,17 @@ class BookingServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics metrics = new OperationMetrics(meterRegistry, new RequestTracer());
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -76,19 +105,21 @@ class BookingServiceImplTest {
     void bookSlot_success() {
         try (MockedStatic<SecurityUtils> mocked = mockStatic(SecurityUtils.class)) {
 
-            mocked.when(SecurityUtils::getCurrentUserEmail)
-                    .thenReturn("test@gmail.com");
+            mocked.when(SecurityUtils::getCurrentUserId)
+                    .thenReturn(1L);
+
+            when(userRepository.getReferenceById(1L))
+                    .thenReturn(user);
 
             when(slotRepository.findByIdForUpdate(1L))
                     .thenReturn(Optional.of(slot));
 
-            when(userRepository.findByEmail("test@gmail.com"))
-                    .thenReturn(Optional.of(user));
-
             BookingResponse response = bookingService.bookSlot(1L);
 
             assertNotNull(response);
             assertEquals(SlotStatus.BOOKED, slot.getStatus());
+            verify(outboxWriter).append(eq(OutboxEventType.BOOKING_CONFIRMED), any(),
+                    eq(new BookingEventPayload(null, 1L, 1L)));
         }
     }
 
@@ -97,32 +128,102 @@ class BookingServiceImplTest {
     void bookSlot_shouldFail_whenSlotAlreadyBooked() {
         slot.setStatus(SlotStatus.BOOKED);
 
-        when(slotRepository.findByIdForUpdate(1L))
-                .thenReturn(Optional.of(slot));
+        try (MockedStatic<SecurityUtils> mocked = mockStatic(SecurityUtils.class)) {
+
+            mocked.when(SecurityUtils::getCurrentUserId)
+                    .thenReturn(1L);
 
-        CustomException ex = assertThrows(
-                CustomException.class,
-                () -> bookingService.bookSlot(1L)
-        );
+            when(userRepository.getReferenceById(1L))
+                    .thenReturn(user);
+
+            when(slotRepository.findByIdForUpdate(1L))
+                    .thenReturn(Optional.of(slot));
+
+            CustomException ex = assertThrows(
+                    CustomException.class,
+                    () -> bookingService.bookSlot(1L)
+            );
+
+            assertEquals("Slot already booked", ex.getMessage());
+
+            // lock wait recorded with the failure outcome
+            assertEquals(1, meterRegistry.get(OperationMetrics.BOOKING_LOCK_WAIT)
+                    .tag("outcome", "conflict")
+                    .tag("strategy", "PESSIMISTIC")
+                    .timer().count());
+        }
+    }
+
+
+
+    @Test
+    void bookSlot_conditionalUpdate_shouldFailFast_whenSlotAlreadyClaimed() {
+        ReflectionTestUtils.setField(
+                bookingService, "lockStrategy", BookingLockStrategy.CONDITIONAL_UPDATE);
+
+        try (MockedStatic<SecurityUtils> mocked = mockStatic(SecurityUtils.class)) {
+
+            mocked.when(SecurityUtils::getCurrentUserId)
+                    .thenReturn(1L);
+
+            when(userRepository.getReferenceById(1L))
+                    .thenReturn(user);
+
+            when(slotRepository.claimIfAvailable(1L))
+                    .thenReturn(0);
+
+            when(slotRepository.existsById(1L))
+                    .thenReturn(true);
+
+            assertThrows(
+                    SlotConflictException.class,
+                    () -> bookingService.bookSlot(1L)
+            );
 
-        assertEquals("Slot already booked", ex.getMessage());
+            verify(slotRepository, never()).findByIdForUpdate(any());
+        }
+    }
+
+
+
+    @Test
+    void bookBatch_firstRequestPerSlotWins_othersFailIndividually() {
+        when(slotRepository.findAllByIdForUpdate(any()))
+                .thenReturn(List.of(slot));
+
+        when(userRepository.getReferenceById(any()))
+                .thenReturn(user);
+
+        List<BookingServiceImpl.BatchOutcome> outcomes = bookingService.bookBatch(List.of(
+                new BookingServiceImpl.BatchItem(1L, 1L),
+                new BookingServiceImpl.BatchItem(2L, 1L),
+                new BookingServiceImpl.BatchItem(3L, 99L)));
+
+        assertNotNull(outcomes.get(0).response());
+        assertInstanceOf(SlotConflictException.class, outcomes.get(1).error());
+        assertEquals("Slot not found", outcomes.get(2).error().getMessage());
+        assertEquals(SlotStatus.BOOKED, slot.getStatus());
     }
 
 
 
     @Test
     void cancelBookingByUser_success() {
-        when(bookingRepository.findById(1L))
-                .thenReturn(Optional.of(booking));
+        when(bookingRepository.findCancelTarget(1L))
+                .thenReturn(Optional.of(cancelTarget(BookingStatus.ACTIVE)));
+        when(bookingRepository.cancelIfActive(1L, 1L)).thenReturn(1);
+        when(slotRepository.releaseIfBooked(1L)).thenReturn(1);
 
         try (MockedStatic<SecurityUtils> mocked = mockStatic(SecurityUtils.class)) {
-            mocked.when(SecurityUtils::getCurrentUserEmail)
-                    .thenReturn("test@gmail.com");
+            mocked.when(SecurityUtils::getCurrentUserId)
+                    .thenReturn(1L);
 
             bookingService.cancelBookingByUser(1L);
 
-            assertEquals(BookingStatus.CANCELED, booking.getStatus());
-            assertEquals(SlotStatus.AVAILABLE, booking.getSlot().getStatus());
+            verify(slotRepository).releaseIfBooked(1L);
+            verify(eventPublisher).publishEvent(new SlotStatusChangedEvent(1L, SlotStatus.AVAILABLE));
+            verify(outboxWriter).append(OutboxEventType.BOOKING_CANCELED, 1L,
+                    new BookingEventPayload(1L, 1L, 1L));
         }
     }
 
@@ -130,32 +231,96 @@ class BookingServiceImplTest {
 
     @Test
     void cancelBookingByUser_shouldFail_whenDifferentUser() {
-        when(bookingRepository.findById(1L))
-                .thenReturn(Optional.of(booking));
+        when(bookingRepository.findCancelTarget(1L))
+                .thenReturn(Optional.of(cancelTarget(BookingStatus.ACTIVE)));
 
         try (MockedStatic<SecurityUtils> mocked = mockStatic(SecurityUtils.class)) {
-            mocked.when(SecurityUtils::getCurrentUserEmail)
-                    .thenReturn("other@gmail.com");
+            mocked.when(SecurityUtils::getCurrentUserId)
+                    .thenReturn(2L);
 
             assertThrows(
                     CustomException.class,
                     () -> bookingService.cancelBookingByUser(1L)
             );
+            verify(bookingRepository, never()).cancelIfActive(any(), any());
         }
     }
 
 
 
+    @Test
+    void cancelBookingByUser_concurrentDoubleCancel_leavesSlotAlone() {
+        // both cancels read ACTIVE, the other one flipped the row first
+        when(bookingRepository.findCancelTarget(1L))
+                .thenReturn(Optional.of(cancelTarget(BookingStatus.ACTIVE)));
+        when(bookingRepository.cancelIfActive(1L, 1L)).thenReturn(0);
+
+        try (MockedStatic<SecurityUtils> mocked = mockStatic(SecurityUtils.class)) {
+            mocked.when(SecurityUtils::getCurrentUserId)
+                    .thenReturn(1L);
+
+            CustomException ex = assertThrows(
+                    CustomException.class,
+                    () -> bookingService.cancelBookingByUser(1L)
+            );
+            assertEquals("Booking already cancelled", ex.getMessage());
+            verify(slotRepository, never()).releaseIfBooked(any());
+            verify(outboxWriter, never()).append(any(), any(), any());
+        }
+    }
+
+
 
     @Test
     void cancelBookingByAdmin_success() {
-        when(bookingRepository.findById(1L))
-                .thenReturn(Optional.of(booking));
+        when(bookingRepository.findCancelTarget(1L))
+                .thenReturn(Optional.of(cancelTarget(BookingStatus.ACTIVE)));
+        when(bookingRepository.cancelIfActive(1L, 1L)).thenReturn(1);
+        when(slotRepository.releaseIfBooked(1L)).thenReturn(1);
 
         bookingService.cancelBookingByAdmin(1L);
 
-        assertEquals(BookingStatus.CANCELED, booking.getStatus());
-        assertEquals(SlotStatus.AVAILABLE, booking.getSlot().getStatus());
+        verify(slotRepository).releaseIfBooked(1L);
+        verify(eventPublisher).publishEvent(new SlotStatusChangedEvent(1L, SlotStatus.AVAILABLE));
+        verify(outboxWriter).append(OutboxEventType.BOOKING_CANCELED_BY_ADMIN, 1L,
+                new BookingEventPayload(1L, 1L, 1L));
+    }
+
+
+
+    @Test
+    void cancelBooking_slotNotBooked_cancelsWithoutAnnouncingTheSlot() {
+        // inconsistent data: ACTIVE booking, slot already AVAILABLE (or gone)
+        when(bookingRepository.findCancelTarget(1L))
+                .thenReturn(Optional.of(cancelTarget(BookingStatus.ACTIVE)));
+        when(bookingRepository.cancelIfActive(1L, 1L)).thenReturn(1);
+        when(slotRepository.releaseIfBooked(1L)).thenReturn(0);
+
+        bookingService.cancelBookingByAdmin(1L);
+
+        // no AVAILABLE event → cache / arbiter / stream keep the slot's real state
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        // the booking itself was cancelled → owner is still notified
+        verify(outboxWriter).append(OutboxEventType.BOOKING_CANCELED_BY_ADMIN, 1L,
+                new BookingEventPayload(1L, 1L, 1L));
+    }
+
+
+
+    @Test
+    void cancelBookingByAdmin_shouldFail_whenAlreadyCancelled() {
+        when(bookingRepository.findCancelTarget(1L))
+                .thenReturn(Optional.of(cancelTarget(BookingStatus.CANCELED)));
+
+        assertThrows(
+                CustomException.class,
+                () -> bookingService.cancelBookingByAdmin(1L)
+        );
+        verify(bookingRepository, never()).cancelIfActive(any(), any());
+    }
+
+    private static BookingCancelTarget cancelTarget(BookingStatus status) {
+        return new BookingCancelTarget(1L, 1L, 1L, status);
     }
 
 
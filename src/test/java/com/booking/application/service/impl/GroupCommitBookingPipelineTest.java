@@ -0,0 +1,115 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.dtos.response.BookingResponse;
+import com.booking.application.service.impl.BookingServiceImpl.BatchItem;
+import com.booking.application.service.impl.BookingServiceImpl.BatchOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitBookingPipelineTest {
+
+    @Mock
+    private BookingServiceImpl bookingService;
+
+    private GroupCommitBookingPipeline pipeline;
+
+    private GroupCommitBookingPipeline pipeline() {
+        pipeline = new GroupCommitBookingPipeline(bookingService, true, 64, 1, 100, 5000);
+        return pipeline;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    // Each item booked, response echoes the slot id
+    private static List<BatchOutcome> booked(List<BatchItem> items) {
+        return items.stream()
+                .map(i -> new BatchOutcome(BookingResponse.builder().slotId(i.slotId()).build(), null))
+                .toList();
+    }
+
+    private static BookingResponse result(CompletableFuture<BookingResponse> future) throws Exception {
+        return future.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void submit_withoutRunningWorker_returnsNull() {
+        pipeline();
+        assertNull(pipeline.submit(1L, 1L));
+
+        pipeline.start();
+        pipeline.stop();
+        assertNull(pipeline.submit(1L, 1L));
+
+        verify(bookingService, never()).bookBatch(anyList());
+    }
+
+    @Test
+    void resultTimeout_isMaxWaitPlusTransactionBudget() {
+        assertEquals(5001, pipeline().getResultTimeout().toMillis());
+    }
+
+    @Test
+    void errorInBatch_failsThatBatch_andWorkerKeepsRunning() throws Exception {
+        when(bookingService.bookBatch(anyList()))
+                .thenThrow(new StackOverflowError("boom"))
+                .thenAnswer(inv -> booked(inv.getArgument(0)));
+        pipeline().start();
+
+        ExecutionException failed = assertThrows(ExecutionException.class,
+                () -> result(pipeline.submit(1L, 1L)));
+        assertInstanceOf(StackOverflowError.class, failed.getCause());
+
+        assertEquals(2L, result(pipeline.submit(1L, 2L)).getSlotId());
+    }
+
+    @Test
+    void requestCancelledWhileQueued_isDroppedFromItsBatch() throws Exception {
+        CountDownLatch inFirstBatch = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> settled = new CopyOnWriteArrayList<>();
+        when(bookingService.bookBatch(anyList())).thenAnswer(inv -> {
+            List<BatchItem> items = inv.getArgument(0);
+            items.forEach(i -> settled.add(i.slotId()));
+            if (items.get(0).slotId() == 1L) {
+                inFirstBatch.countDown();
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            }
+            return booked(items);
+        });
+        pipeline().start();
+
+        // worker busy with slot 1 → slot 2 waits in the queue and its caller gives up
+        CompletableFuture<BookingResponse> first = pipeline.submit(1L, 1L);
+        assertTrue(inFirstBatch.await(5, TimeUnit.SECONDS));
+        CompletableFuture<BookingResponse> abandoned = pipeline.submit(1L, 2L);
+        assertTrue(abandoned.cancel(false));
+        CompletableFuture<BookingResponse> next = pipeline.submit(1L, 3L);
+        release.countDown();
+
+        assertEquals(1L, result(first).getSlotId());
+        assertEquals(3L, result(next).getSlotId());
+        assertEquals(List.of(1L, 3L), settled);
+    }
+}
@@ -0,0 +1,358 @@
+package com.booking.application.service.impl;
+
+import com.booking.application.cache.SlotAvailabilityCache;
+import com.booking.application.cache.SlotInterval;
+import com.booking.application.cache.SlotIntervalIndex;
+import com.booking.application.dtos.request.BulkCreateSlotRequest;
+import com.booking.application.dtos.request.CreateSlotRequest;
+import com.booking.application.dtos.request.SlotRecurrenceRule;
+import com.booking.application.dtos.response.CursorPage;
+import com.booking.application.dtos.response.SlotResponse;
+import com.booking.application.entity.Slot;
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.events.SlotsCreatedEvent;
+import com.booking.application.exceptions.CustomException;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.repository.SlotRepository;
+import com.booking.application.tracing.RequestTracer;
+import com.booking.application.utils.KeysetCursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlotServiceImplTest {
+
+    private static final LocalDateTime TEN = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    @Mock
+    private SlotAvailabilityCache slotAvailabilityCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SlotIntervalIndex slotIntervalIndex;
+
+    private SlotServiceImpl slotService;
+
+    @BeforeEach
+    void setUp() {
+        // index starts empty: whatever is "stored" below was written elsewhere
+        lenient().when(slotRepository.findAllIntervals()).thenReturn(List.of());
+        slotIntervalIndex = new SlotIntervalIndex(slotRepository);
+        slotIntervalIndex.reload();
+
+        slotService = new SlotServiceImpl(
+                slotRepository, slotIntervalIndex, slotAvailabilityCache, eventPublisher,
+                new OperationMetrics(new SimpleMeterRegistry(), new RequestTracer()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ================= BULK CREATE =================
+
+    @Test
+    void createSlots_expandsRecurrence_intoWholeSlotsOnMatchingDays() {
+        // 2030-01-07 is a Monday; 09:00–10:45 in 30 min → 3 whole slots per day
+        SlotRecurrenceRule rule = new SlotRecurrenceRule();
+        rule.setStartDate(LocalDate.of(2030, 1, 7));
+        rule.setWeeks(1);
+        rule.setDaysOfWeek(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY));
+        rule.setDayStartTime(LocalTime.of(9, 0));
+        rule.setDayEndTime(LocalTime.of(10, 45));
+        rule.setSlotMinutes(30);
+
+        BulkCreateSlotRequest bulk = new BulkCreateSlotRequest();
+        bulk.setRecurrence(rule);
+        stubStoredSlots();
+        stubSaveAll();
+
+        List<SlotResponse> created = slotService.createSlots(bulk);
+
+        assertEquals(6, created.size());
+        assertEquals(LocalDateTime.of(2030, 1, 7, 9, 0), created.get(0).getStartTime());
+        assertEquals(LocalDateTime.of(2030, 1, 7, 10, 30), created.get(2).getEndTime());
+        assertEquals(LocalDateTime.of(2030, 1, 9, 9, 0), created.get(3).getStartTime());
+
+        ArgumentCaptor<SlotsCreatedEvent> event = ArgumentCaptor.forClass(SlotsCreatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(6, event.getValue().slots().size());
+    }
+
+    @Test
+    void createSlots_rejectsMoreThanMaxBulkSlots() {
+        SlotRecurrenceRule rule = new SlotRecurrenceRule();
+        rule.setStartDate(LocalDate.of(2030, 1, 7));
+        rule.setWeeks(53);
+        rule.setDaysOfWeek(EnumSet.allOf(DayOfWeek.class));
+        rule.setDayStartTime(LocalTime.MIDNIGHT);
+        rule.setDayEndTime(LocalTime.of(23, 55));
+        rule.setSlotMinutes(5);
+
+        BulkCreateSlotRequest bulk = new BulkCreateSlotRequest();
+        bulk.setRecurrence(rule);
+
+        CustomException ex = assertThrows(CustomException.class, () -> slotService.createSlots(bulk));
+
+        assertTrue(ex.getMessage().startsWith("Too many slots"));
+        verify(slotRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createSlots_rejectsOverlapInsideTheBatch_regardlessOfOrder() {
+        BulkCreateSlotRequest bulk = new BulkCreateSlotRequest();
+        bulk.setSlots(List.of(
+                request(TEN.plusMinutes(30), TEN.plusMinutes(90)),
+                request(TEN, TEN.plusHours(1))));
+
+        CustomException ex = assertThrows(CustomException.class, () -> slotService.createSlots(bulk));
+
+        assertTrue(ex.getMessage().endsWith("in the same request"));
+        // nothing was reserved
+        assertEquals(SlotIntervalIndex.Conflict.NONE, slotIntervalIndex.reserve(TEN, TEN.plusHours(1)));
+    }
+
+    @Test
+    void createSlots_rejectsOverlapWithIndexedSlot_allOrNothing() {
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                slotIntervalIndex.reserve(TEN.plusHours(2), TEN.plusHours(3)));
+
+        BulkCreateSlotRequest bulk = new BulkCreateSlotRequest();
+        bulk.setSlots(List.of(
+                request(TEN, TEN.plusHours(1)),
+                request(TEN.plusMinutes(150), TEN.plusMinutes(210))));
+
+        assertThrows(CustomException.class, () -> slotService.createSlots(bulk));
+
+        verify(slotRepository, never()).saveAll(anyList());
+        // the non-conflicting candidate was not left reserved
+        assertEquals(SlotIntervalIndex.Conflict.NONE, slotIntervalIndex.reserve(TEN, TEN.plusHours(1)));
+    }
+
+    @Test
+    void createSlots_releasesReservations_whenTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        stubStoredSlots();
+        stubSaveAll();
+
+        BulkCreateSlotRequest bulk = new BulkCreateSlotRequest();
+        bulk.setSlots(List.of(
+                request(TEN, TEN.plusHours(1)),
+                request(TEN.plusHours(1), TEN.plusHours(2))));
+
+        slotService.createSlots(bulk);
+
+        // pending until the transaction completes
+        assertEquals(SlotIntervalIndex.Conflict.DUPLICATE,
+                slotIntervalIndex.reserve(TEN, TEN.plusHours(1)));
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                slotIntervalIndex.reserve(TEN, TEN.plusHours(1)));
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                slotIntervalIndex.reserve(TEN.plusHours(1), TEN.plusHours(2)));
+    }
+
+    @Test
+    void createSlots_confirmsReservations_whenTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        stubStoredSlots();
+        stubSaveAll();
+
+        BulkCreateSlotRequest bulk = new BulkCreateSlotRequest();
+        bulk.setSlots(List.of(request(TEN, TEN.plusHours(1))));
+
+        Long id = slotService.createSlots(bulk).get(0).getId();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(TEN, slotIntervalIndex.findById(id).startTime());
+    }
+
+    // ================= DB-SIDE GUARD =================
+
+    @Test
+    void createSlot_rejectsOverlapStoredByAnotherInstance_andReleasesReservation() {
+        when(slotRepository.findLastStartingBefore(any(), any()))
+                .thenReturn(List.of(new SlotInterval(9L, TEN, TEN.plusHours(1))));
+
+        CustomException ex = assertThrows(CustomException.class,
+                () -> slotService.createSlot(request(TEN.plusMinutes(30), TEN.plusMinutes(90))));
+
+        assertEquals("Slot time overlaps with existing slot", ex.getMessage());
+        verify(slotRepository, never()).save(any());
+        // reservation dropped → the interval is free again in the index
+        assertEquals(SlotIntervalIndex.Conflict.NONE,
+                slotIntervalIndex.reserve(TEN.plusMinutes(30), TEN.plusMinutes(90)));
+    }
+
+    @Test
+    void createSlot_savesWhenStoredNeighbourOnlyTouches() {
+        when(slotRepository.findLastStartingBefore(any(), any()))
+                .thenReturn(List.of(new SlotInterval(9L, TEN, TEN.plusHours(1))));
+        when(slotRepository.save(any(Slot.class))).thenAnswer(invocation -> {
+            Slot slot = invocation.getArgument(0);
+            slot.setId(10L);
+            return slot;
+        });
+
+        assertEquals(10L,
+                slotService.createSlot(request(TEN.plusHours(1), TEN.plusHours(2))).getId());
+        assertEquals(TEN.plusHours(1), slotIntervalIndex.findById(10L).startTime());
+    }
+
+    @Test
+    void createSlots_rejectsBatchOverlappingStoredSlot() {
+        BulkCreateSlotRequest bulk = new BulkCreateSlotRequest();
+        bulk.setSlots(List.of(
+                request(TEN.minusHours(1), TEN),
+                request(TEN.plusHours(2), TEN.plusHours(3))));
+
+        when(slotRepository.findLastStartingBefore(any(), any())).thenReturn(List.of());
+        when(slotRepository.findIntervalsStartingBetween(TEN.minusHours(1), TEN.plusHours(3)))
+                .thenReturn(List.of(new SlotInterval(9L, TEN.plusMinutes(150), TEN.plusHours(4))));
+
+        assertThrows(CustomException.class, () -> slotService.createSlots(bulk));
+
+        verify(slotRepository, never()).saveAll(any());
+    }
+
+    private void stubStoredSlots() {
+        when(slotRepository.findLastStartingBefore(any(), any())).thenReturn(List.of());
+        when(slotRepository.findIntervalsStartingBetween(any(), any())).thenReturn(List.of());
+    }
+
+    private void stubSaveAll() {
+        AtomicLong ids = new AtomicLong(100);
+        when(slotRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Slot> slots = invocation.getArgument(0);
+            slots.forEach(slot -> slot.setId(ids.incrementAndGet()));
+            return slots;
+        });
+    }
+
+    // Plays the transaction manager's part for the registered callbacks
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+
+    // ================= WINDOW READS =================
+
+    @Test
+    void getSlots_pagesThroughCachedDays_withStatusFilter() {
+        SlotServiceImpl cached = serviceWithRealCache();
+
+        LocalDateTime monday = TEN;
+        LocalDateTime tuesday = TEN.plusDays(1);
+        LocalDateTime windowEnd = tuesday.toLocalDate().plusDays(1).atStartOfDay();
+        when(slotRepository.findAllStartingBetween(monday.toLocalDate().atStartOfDay(),
+                tuesday.toLocalDate().atStartOfDay()))
+                .thenReturn(List.of(
+                        slot(1L, monday.minusHours(2), SlotStatus.AVAILABLE),   // before the window
+                        slot(2L, monday, SlotStatus.AVAILABLE),
+                        slot(3L, monday.plusHours(1), SlotStatus.BOOKED),
+                        slot(4L, monday.plusHours(2), SlotStatus.AVAILABLE)));
+        when(slotRepository.findAllStartingBetween(tuesday.toLocalDate().atStartOfDay(),
+                tuesday.toLocalDate().plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(slot(5L, tuesday, SlotStatus.AVAILABLE)));
+
+        CursorPage<SlotResponse> first = cached.getSlots(
+                monday, windowEnd, SlotStatus.AVAILABLE, null, 2);
+        assertEquals(List.of(2L, 4L), ids(first));
+
+        CursorPage<SlotResponse> second = cached.getSlots(
+                monday, windowEnd, SlotStatus.AVAILABLE, first.getNextCursor(), 2);
+        assertEquals(List.of(5L), ids(second));
+        assertNull(second.getNextCursor());
+
+        // each day loaded once, the second page came from the cache
+        verify(slotRepository, times(2)).findAllStartingBetween(any(), any());
+        verify(slotRepository, never()).findWindow(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getSlots_withCacheDisabled_queriesWindowWithLimitPlusOne() {
+        ReflectionTestUtils.setField(slotService, "cacheEnabled", false);
+        when(slotRepository.findWindow(TEN, TEN.plusDays(1), null, TEN, 0L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(
+                        slot(1L, TEN, SlotStatus.AVAILABLE),
+                        slot(2L, TEN.plusHours(1), SlotStatus.AVAILABLE),
+                        slot(3L, TEN.plusHours(2), SlotStatus.AVAILABLE)));
+
+        CursorPage<SlotResponse> page = slotService.getSlots(TEN, TEN.plusDays(1), null, null, 2);
+
+        assertEquals(List.of(1L, 2L), ids(page));
+        assertEquals(new KeysetCursor(TEN.plusHours(1), 2L).encode(),
+                page.getNextCursor());
+    }
+
+    @Test
+    void getSlots_rejectsWindowLongerThan31Days() {
+        assertThrows(CustomException.class,
+                () -> slotService.getSlots(TEN, TEN.plusDays(32), null, null, 10));
+    }
+
+    private SlotServiceImpl serviceWithRealCache() {
+        return new SlotServiceImpl(
+                slotRepository, slotIntervalIndex,
+                new SlotAvailabilityCache(slotRepository, slotIntervalIndex, 60, 400),
+                eventPublisher,
+                new OperationMetrics(new SimpleMeterRegistry(), new RequestTracer()));
+    }
+
+    private static SlotResponse slot(Long id, LocalDateTime start, SlotStatus status) {
+        return new SlotResponse(id, start, start.plusHours(1), status);
+    }
+
+    private static List<Long> ids(CursorPage<SlotResponse> page) {
+        return page.getItems().stream().map(SlotResponse::getId).toList();
+    }
+
+    private static CreateSlotRequest request(LocalDateTime start, LocalDateTime end) {
+        CreateSlotRequest request = new CreateSlotRequest();
+        request.setStartTime(start);
+        request.setEndTime(end);
+        return request;
+    }
+}
@@ -0,0 +1,116 @@
+package com.booking.application.stream;
+
+import com.booking.application.enums.SlotStatus;
+import com.booking.application.metrics.OperationMetrics;
+import com.booking.application.tracing.RequestTracer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotEventBusTest {
+
+    private final SlotEventBus bus = new SlotEventBus(
+            new ObjectMapper().findAndRegisterModules(),
+            new OperationMetrics(new SimpleMeterRegistry(), new RequestTracer()),
+            10, 4, 8, 500, 1, 0);
+
+    @AfterEach
+    void tearDown() {
+        bus.destroy();
+    }
+
+    @Test
+    void newSubscriber_getsReady_thenLiveDeltas() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        bus.subscribe(sink, null);
+
+        bus.publish(SlotDelta.status(42L, SlotStatus.BOOKED));
+
+        SlotEventBus.Frame ready = sink.next();
+        assertTrue(ready.data().contains("\"READY\""));
+        assertEquals(bus.epoch() + "-0", ready.id());
+
+        SlotEventBus.Frame delta = sink.next();
+        assertEquals(bus.epoch() + "-1", delta.id());
+        assertEquals("{\"type\":\"STATUS\",\"slotId\":42,\"status\":\"BOOKED\"}", delta.data());
+    }
+
+    @Test
+    void resume_replaysMissedChanges_orAsksForReload() throws Exception {
+        bus.publish(SlotDelta.status(1L, SlotStatus.BOOKED));
+        bus.publish(SlotDelta.status(2L, SlotStatus.BOOKED));
+        bus.publish(SlotDelta.status(1L, SlotStatus.AVAILABLE));
+
+        RecordingSink resumed = new RecordingSink();
+        bus.subscribe(resumed, bus.epoch() + "-1");
+        assertEquals(bus.epoch() + "-2", resumed.next().id());
+        assertEquals(bus.epoch() + "-3", resumed.next().id());
+
+        // id from a previous process → cannot replay
+        RecordingSink stale = new RecordingSink();
+        bus.subscribe(stale, "oldepoch-2");
+        assertTrue(stale.next().data().contains("\"RELOAD\""));
+    }
+
+    @Test
+    void slowSubscriber_isDisconnected_andResumesFromHistory() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink() {
+            @Override
+            public void send(SlotEventBus.Frame frame) {
+                awaitQuietly(release);
+            }
+        };
+        bus.subscribe(slow, bus.epoch() + "-0");
+
+        // queue-capacity 4: the stuck writer + 4 queued, the rest overflows
+        for (long slotId = 1; slotId <= 8; slotId++) {
+            bus.publish(SlotDelta.status(slotId, SlotStatus.BOOKED));
+        }
+        release.countDown();
+
+        assertTrue(slow.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, bus.subscriberCount());
+
+        RecordingSink fast = new RecordingSink();
+        bus.subscribe(fast, bus.epoch() + "-7");
+        assertEquals(bus.epoch() + "-8", fast.next().id());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingSink implements SlotEventBus.Sink {
+
+        private final LinkedBlockingQueue<SlotEventBus.Frame> frames = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void send(SlotEventBus.Frame frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        SlotEventBus.Frame next() throws InterruptedException {
+            SlotEventBus.Frame frame = frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "no frame delivered");
+            return frame;
+        }
+    }
+}
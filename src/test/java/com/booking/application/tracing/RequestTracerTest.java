@@ -0,0 +1,49 @@
+package com.booking.application.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTracerTest {
+
+    private final RequestTracer tracer = new RequestTracer(true, false, 2, 2);
+
+    @Test
+    void spans_areRecordedOnlyInsideATrace() {
+        try (RequestTracer.Scope ignored = tracer.span("outside")) {
+            assertFalse(tracer.isTracing());
+        }
+
+        RequestTrace trace = tracer.begin("req-1", "POST", "/api/bookings");
+        try (RequestTracer.Scope ignored = tracer.span("booking.lock.wait")) {
+            assertTrue(tracer.isTracing());
+        }
+        tracer.record("sql", "select 1", System.nanoTime(), 1_000);
+        tracer.record("sql", "select 2", System.nanoTime(), 1_000); // over max-spans
+        tracer.end(trace, 200);
+
+        assertFalse(tracer.isTracing());
+        assertEquals(List.of("booking.lock.wait", "sql"),
+                trace.getSpans().stream().map(RequestTrace.Span::name).toList());
+        assertEquals(1, trace.getDroppedSpans());
+    }
+
+    @Test
+    void slowest_keepsTheNSlowestRequests_slowestFirst() throws Exception {
+        RequestTrace slow = tracer.begin("slow", "GET", "/a");
+        RequestTrace medium = tracer.begin("medium", "GET", "/b");
+        RequestTrace fast = tracer.begin("fast", "GET", "/c");
+
+        // finishing later = longer duration
+        tracer.end(fast, 200);
+        Thread.sleep(2);
+        tracer.end(medium, 200);
+        Thread.sleep(2);
+        tracer.end(slow, 200);
+
+        assertEquals(List.of("slow", "medium"),
+                tracer.slowest().stream().map(RequestTrace::getRequestId).toList());
+    }
+}